@@ -0,0 +1,59 @@
+package ru.practicum.shareit.benchmark;
+
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.item.model.CommentView;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detached entity graphs for the mapper benchmarks, built the same way on every run.
+ */
+final class BenchmarkData {
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 3, 1, 12, 0);
+
+    private BenchmarkData() {
+    }
+
+    static User user(long id) {
+        return User.builder()
+                .id(id)
+                .name("User " + id)
+                .email("user" + id + "@shareit.ru")
+                .build();
+    }
+
+    static Item item(long id, long ownerId) {
+        return Item.builder()
+                .id(id)
+                .name("Drill " + id)
+                .description("Cordless drill number " + id)
+                .available(true)
+                .ownerId(ownerId)
+                .requestId(id % 2 == 0 ? id : null)
+                .build();
+    }
+
+    static Booking booking(long id) {
+        return Booking.builder()
+                .id(id)
+                .start(NOW.minusDays(2))
+                .end(NOW.minusDays(1))
+                .status(BookingStatus.APPROVED)
+                .item(item(id, id + 1))
+                .booker(user(id + 2))
+                .build();
+    }
+
+    static List<CommentView> comments(int count) {
+        List<CommentView> comments = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            comments.add(new CommentView(i, "Works fine, comment " + i, user(i).getName(), NOW.minusHours(i)));
+        }
+        return comments;
+    }
+}
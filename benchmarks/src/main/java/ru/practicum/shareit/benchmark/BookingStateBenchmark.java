@@ -0,0 +1,63 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.dto.BookingState;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the booker-and-state specification the way {@code BookingServiceImpl} does and turns it into a criteria
+ * predicate, without executing the query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingStateBenchmark {
+    @Param
+    private BookingState state;
+
+    private ConfigurableApplicationContext context;
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ServerContexts.start("specifications");
+        criteriaBuilder = context.getBean(EntityManagerFactory.class).getCriteriaBuilder();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Predicate specification() {
+        long bookerId = 1;
+        Specification<Booking> byBookerId = (r, q, cb) -> cb.equal(r.<Long>get("booker").get("id"), bookerId);
+        CriteriaQuery<Booking> query = criteriaBuilder.createQuery(Booking.class);
+        return Specification.where(byBookerId).and(state.getSpecification())
+                .toPredicate(query.from(Booking.class), query, criteriaBuilder);
+    }
+}
@@ -0,0 +1,75 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.item.CommentMapper;
+import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.CommentView;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private final ItemMapper itemMapper = new ItemMapper();
+    private final BookingMapper bookingMapper = new BookingMapper(new UserMapper(), itemMapper);
+    private final CommentMapper commentMapper = new CommentMapper();
+
+    private Booking booking;
+    private Item item;
+
+    @Setup
+    public void setUp() {
+        booking = BenchmarkData.booking(1);
+        item = booking.getItem();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Comments {
+        @Param({"1", "10", "100"})
+        private int count;
+
+        private List<CommentView> comments;
+
+        @Setup
+        public void setUp() {
+            comments = BenchmarkData.comments(count);
+        }
+    }
+
+    @Benchmark
+    public BookingDto bookingToDto() {
+        return bookingMapper.toDto(booking);
+    }
+
+    @Benchmark
+    public ItemDto itemToDto() {
+        return itemMapper.toDto(item);
+    }
+
+    @Benchmark
+    public List<CommentDto> commentsToDto(Comments comments) {
+        return commentMapper.toDto(comments.comments);
+    }
+}
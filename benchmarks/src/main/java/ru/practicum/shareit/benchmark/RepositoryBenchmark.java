@@ -0,0 +1,65 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.CommentRepository;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.CommentView;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Benchmark
+    public Booking lastItemBooking(SeededDatabase db) {
+        return db.getBean(BookingRepository.class).findLastItemBooking(db.randomItemId());
+    }
+
+    @Benchmark
+    public Booking nextItemBooking(SeededDatabase db) {
+        return db.getBean(BookingRepository.class).findNextItemBooking(db.randomItemId());
+    }
+
+    @Benchmark
+    public List<Item> itemsByOwner(SeededDatabase db) {
+        return db.getBean(ItemRepository.class).findAllByOwnerIdOrderById(db.randomUserId(), FIRST_PAGE);
+    }
+
+    @Benchmark
+    public List<Item> searchText(SeededDatabase db) {
+        return db.getBean(ItemRepository.class).searchText("drill number 1", FIRST_PAGE);
+    }
+
+    @Benchmark
+    public List<CommentView> commentsByItem(SeededDatabase db) {
+        return db.getBean(CommentRepository.class).findViewsByItemId(db.randomItemId(), FIRST_PAGE);
+    }
+
+    @Benchmark
+    public List<Booking> allBookingsByBooker(SeededDatabase db) {
+        return db.getBean(BookingService.class).getBookingsByBookerId(db.randomUserId(), "ALL", FIRST_PAGE);
+    }
+
+    @Benchmark
+    public List<Booking> futureBookingsByOwner(SeededDatabase db) {
+        return db.getBean(BookingService.class).getBookingsByOwnerId(db.randomUserId(), "FUTURE", FIRST_PAGE);
+    }
+}
@@ -0,0 +1,127 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.BookingStatus;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Server application context on an H2 database seeded with a fixed pseudo-random data set. Sizes are JMH parameters,
+ * so they can be changed from the command line, e.g. {@code -p users=10000 -p bookingsPerItem=50}.
+ */
+@State(Scope.Benchmark)
+public class SeededDatabase {
+    private static final int BATCH_SIZE = 1000;
+    private static final String INSERT_BOOKING =
+            "insert into bookings (id, start_time, end_time, item_id, booker_id, status) values (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_COMMENT =
+            "insert into comments (id, text, item_id, author_id, created) values (?, ?, ?, ?, ?)";
+    private static final BookingStatus[] STATUSES = {
+            BookingStatus.APPROVED, BookingStatus.APPROVED, BookingStatus.WAITING, BookingStatus.REJECTED};
+
+    @Param({"1000"})
+    private int users;
+
+    @Param({"5"})
+    private int itemsPerUser;
+
+    @Param({"10"})
+    private int bookingsPerItem;
+
+    @Param({"5"})
+    private int commentsPerItem;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ServerContexts.start("seeded");
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(users) + 1;
+    }
+
+    public long randomItemId() {
+        return ThreadLocalRandom.current().nextLong((long) users * itemsPerUser) + 1;
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= users; id++) {
+            rows.add(new Object[]{id, "User " + id, "user" + id + "@shareit.ru"});
+        }
+        insert(jdbcTemplate, "insert into users (id, name, email) values (?, ?, ?)", rows);
+
+        long itemCount = (long) users * itemsPerUser;
+        for (long id = 1; id <= itemCount; id++) {
+            long ownerId = (id - 1) / itemsPerUser + 1;
+            rows.add(new Object[]{id, "Drill " + id, "Cordless drill number " + id, id % 10 != 0, ownerId});
+        }
+        insert(jdbcTemplate,
+                "insert into items (id, name, description, is_available, owner_id) values (?, ?, ?, ?, ?)", rows);
+
+        long bookingId = 1;
+        long commentId = 1;
+        for (long itemId = 1; itemId <= itemCount; itemId++) {
+            for (int i = 0; i < bookingsPerItem; i++) {
+                LocalDateTime start = now.plusHours(random.nextInt(24 * 365 * 2) - 24 * 365);
+                rows.add(new Object[]{bookingId++, Timestamp.valueOf(start), Timestamp.valueOf(start.plusDays(2)),
+                        itemId, randomUser(random), STATUSES[random.nextInt(STATUSES.length)].name()});
+            }
+            insertIfFull(jdbcTemplate, INSERT_BOOKING, rows);
+        }
+        insert(jdbcTemplate, INSERT_BOOKING, rows);
+
+        for (long itemId = 1; itemId <= itemCount; itemId++) {
+            for (int i = 0; i < commentsPerItem; i++) {
+                rows.add(new Object[]{commentId++, "Works fine, comment " + i, itemId, randomUser(random),
+                        Timestamp.valueOf(now.minusHours(random.nextInt(24 * 365)))});
+            }
+            insertIfFull(jdbcTemplate, INSERT_COMMENT, rows);
+        }
+        insert(jdbcTemplate, INSERT_COMMENT, rows);
+    }
+
+    private long randomUser(Random random) {
+        return random.nextInt(users) + 1;
+    }
+
+    private static void insertIfFull(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows) {
+        if (rows.size() >= BATCH_SIZE) {
+            insert(jdbcTemplate, sql, rows);
+        }
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+}
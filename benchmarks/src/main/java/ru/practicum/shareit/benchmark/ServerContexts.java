@@ -0,0 +1,24 @@
+package ru.practicum.shareit.benchmark;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItServer;
+
+final class ServerContexts {
+    private ServerContexts() {
+    }
+
+    /**
+     * Starts the server application without the web layer on a fresh in-memory H2 database.
+     */
+    static ConfigurableApplicationContext start(String database) {
+        return new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=jdbc:h2:mem:" + database,
+                        "--logging.level.root=WARN");
+    }
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import ru.practicum.shareit.ratelimit.RateLimitInterceptor;
+import ru.practicum.shareit.ratelimit.RateLimitProperties;
+import ru.practicum.shareit.user.UserExistenceInterceptor;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+    private final RateLimitInterceptor rateLimitInterceptor;
+    private final UserExistenceInterceptor userExistenceInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor);
+        registry.addInterceptor(userExistenceInterceptor)
+                .addPathPatterns("/items", "/items/*/comment", "/bookings", "/bookings/owner", "/requests", "/requests/*")
+                .excludePathPatterns("/requests/all");
+    }
+}
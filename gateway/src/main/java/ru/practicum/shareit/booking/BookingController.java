@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 
@@ -28,6 +29,7 @@ import javax.validation.constraints.PositiveOrZero;
 public class BookingController {
     private static final String USER_ID = "X-Sharer-User-Id";
     private final BookingClient bookingClient;
+    private final BookingFeedClient bookingFeedClient;
 
     @GetMapping
     public ResponseEntity<Object> getAllByBookerId(@RequestHeader(USER_ID) long userId,
@@ -51,6 +53,12 @@ public class BookingController {
         return bookingClient.getBookingsByOwner(userId, state, from, size);
     }
 
+    @GetMapping("/events")
+    public ResponseEntity<StreamingResponseBody> subscribe(@RequestHeader(USER_ID) long userId) {
+        log.info("Subscribe to booking events, userId={}", userId);
+        return bookingFeedClient.subscribe(userId);
+    }
+
     @GetMapping("/{bookingId}")
     public ResponseEntity<Object> getById(@RequestHeader(USER_ID) long userId,
                                           @PathVariable long bookingId) {
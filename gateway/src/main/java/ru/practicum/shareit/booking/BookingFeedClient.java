@@ -0,0 +1,95 @@
+package ru.practicum.shareit.booking;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.client.ServerClientProperties;
+import ru.practicum.shareit.client.ServerUnavailableException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Proxies the booking event stream of the server. Streams bypass the bulkhead and the circuit breaker of the regular
+ * clients, as they stay open for the whole subscription, and use a connection pool of their own.
+ */
+@Service
+public class BookingFeedClient implements DisposableBean {
+    private static final String USER_ID = "X-Sharer-User-Id";
+
+    private final URI eventsUri;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate rest;
+
+    @Autowired
+    public BookingFeedClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                             ServerClientProperties properties) {
+        ServerClientProperties.Feed feed = properties.getFeed();
+        this.eventsUri = URI.create(serverUrl + "/bookings/events");
+        this.httpClient = HttpClients.custom()
+                .setMaxConnTotal(feed.getMaxConnections())
+                .setMaxConnPerRoute(feed.getMaxConnections())
+                .disableAutomaticRetries()
+                .build();
+        this.rest = builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .setReadTimeout(feed.getReadTimeout())
+                .build();
+    }
+
+    /**
+     * Opens the server stream before answering, so errors such as an unknown user keep their status; the events are
+     * then copied as they arrive.
+     */
+    public ResponseEntity<StreamingResponseBody> subscribe(long userId) {
+        ClientHttpResponse response;
+        try {
+            ClientHttpRequest request = rest.getRequestFactory().createRequest(eventsUri, HttpMethod.GET);
+            request.getHeaders().set(USER_ID, String.valueOf(userId));
+            request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_JSON));
+            response = request.execute();
+        } catch (IOException e) {
+            throw new ServerUnavailableException("ShareIt server is unavailable: " + e.getMessage(), 1);
+        }
+
+        try {
+            ResponseEntity.BodyBuilder gatewayResponse = ResponseEntity.status(response.getRawStatusCode());
+            MediaType contentType = response.getHeaders().getContentType();
+            if (contentType != null) {
+                gatewayResponse.contentType(contentType);
+            }
+            return gatewayResponse.header("Cache-Control", "no-cache").body(out -> {
+                try (response; InputStream in = response.getBody()) {
+                    byte[] buffer = new byte[8192];
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        out.write(buffer, 0, read);
+                        out.flush();
+                    }
+                }
+            });
+        } catch (IOException e) {
+            response.close();
+            throw new ServerUnavailableException("ShareIt server is unavailable: " + e.getMessage(), 1);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        httpClient.close();
+    }
+}
@@ -1,24 +1,41 @@
 package ru.practicum.shareit.client;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
+import ru.practicum.shareit.user.UserExistenceCache;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
 public class BaseClient {
     protected final RestTemplate rest;
+    protected UserExistenceCache userExistenceCache;
+    private WireFormat wireFormat;
 
     public BaseClient(RestTemplate rest) {
         this.rest = rest;
     }
 
+    @Autowired
+    public void setUserExistenceCache(UserExistenceCache userExistenceCache) {
+        this.userExistenceCache = userExistenceCache;
+    }
+
+    @Autowired
+    public void setWireFormat(WireFormat wireFormat) {
+        this.wireFormat = wireFormat;
+    }
+
     protected ResponseEntity<Object> get(String path) {
         return get(path, null, null);
     }
@@ -90,15 +107,41 @@ public class BaseClient {
                 shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
             }
         } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            Object errorBody = wireFormat == null ? e.getResponseBodyAsByteArray() : wireFormat.decodeErrorBody(e);
+            if (userId != null && isUserNotFound(e.getStatusCode(), errorBody, userId)) {
+                userExistenceCache.markMissing(userId);
+            }
+            return ResponseEntity.status(e.getStatusCode()).body(errorBody);
+        } catch (ResourceAccessException e) {
+            throw new ServerUnavailableException("ShareIt server is unavailable: " + e.getMessage(), 1);
         }
         return prepareGatewayResponse(shareitServerResponse);
     }
 
+    private boolean isUserNotFound(HttpStatus status, Object errorBody, long userId) {
+        if (userExistenceCache == null || status != HttpStatus.NOT_FOUND) {
+            return false;
+        }
+        String message;
+        if (errorBody instanceof Map) {
+            message = String.valueOf(((Map<?, ?>) errorBody).get("error"));
+        } else if (errorBody instanceof byte[]) {
+            message = new String((byte[]) errorBody, StandardCharsets.UTF_8);
+        } else {
+            message = String.valueOf(errorBody);
+        }
+        return message.contains(String.format("User ID %d is not found", userId));
+    }
+
     private HttpHeaders defaultHeaders(Long userId) {
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (wireFormat == null) {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        } else {
+            headers.setContentType(wireFormat.getContentType());
+            headers.setAccept(wireFormat.getAccept());
+        }
         if (userId != null) {
             headers.set("X-Sharer-User-Id", String.valueOf(userId));
         }
@@ -106,10 +149,6 @@ public class BaseClient {
     }
 
     private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
-        }
-
         ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
 
         if (response.hasBody()) {
@@ -0,0 +1,121 @@
+package ru.practicum.shareit.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+
+@Slf4j
+public class CircuitBreaker {
+    private final String name;
+    private final boolean[] outcomes;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationMillis;
+    private final Clock clock;
+    private State state = State.CLOSED;
+    private int position;
+    private int calls;
+    private int failures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(String name, int slidingWindowSize, int minimumCalls, int failureRateThreshold,
+                          long openDurationMillis, Clock clock) {
+        this.name = name;
+        this.outcomes = new boolean[slidingWindowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.clock = clock;
+    }
+
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.millis() - openedAt < openDurationMillis) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+                trialInFlight = true;
+                return true;
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            reset();
+            transitionTo(State.CLOSED);
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (calls >= minimumCalls && failures * 100 >= failureRateThreshold * calls) {
+            open();
+        }
+    }
+
+    public synchronized long getRetryAfterMillis() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, openedAt + openDurationMillis - clock.millis());
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (calls == outcomes.length) {
+            if (outcomes[position]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+        outcomes[position] = failure;
+        if (failure) {
+            failures++;
+        }
+        position = (position + 1) % outcomes.length;
+    }
+
+    private void open() {
+        openedAt = clock.millis();
+        reset();
+        transitionTo(State.OPEN);
+    }
+
+    private void reset() {
+        position = 0;
+        calls = 0;
+        failures = 0;
+        trialInFlight = false;
+    }
+
+    private void transitionTo(State newState) {
+        if (state != newState) {
+            log.warn("Circuit breaker {} changed state from {} to {}", name, state, newState);
+            state = newState;
+        }
+    }
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+}
@@ -0,0 +1,64 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+public class ClientGuard implements ClientHttpRequestInterceptor, Ordered {
+    private final String name;
+    private final ConcurrencyLimiter limiter;
+    private final CircuitBreaker circuitBreaker;
+    private final Counter rejected;
+
+    public ClientGuard(String name, ConcurrencyLimiter limiter, CircuitBreaker circuitBreaker, Counter rejected) {
+        this.name = name;
+        this.limiter = limiter;
+        this.circuitBreaker = circuitBreaker;
+        this.rejected = rejected;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!limiter.tryAcquire()) {
+            rejected.increment();
+            throw new ServerUnavailableException(
+                    String.format("Too many concurrent requests to %s, limit is %d", name, limiter.getLimit()), 1);
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            limiter.release();
+            rejected.increment();
+            throw new ServerUnavailableException(String.format("Circuit breaker for %s is open", name),
+                    Math.max(1, circuitBreaker.getRetryAfterMillis() / 1000));
+        }
+
+        long start = System.nanoTime();
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            limiter.onFailure();
+            circuitBreaker.onFailure();
+            throw e;
+        }
+
+        if (response.getRawStatusCode() >= 500) {
+            limiter.onFailure();
+            circuitBreaker.onFailure();
+        } else {
+            limiter.onSuccess(System.nanoTime() - start);
+            circuitBreaker.onSuccess();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+
+@Component
+@RequiredArgsConstructor
+public class ClientGuards {
+    private final ServerClientProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public ClientGuard forClient(String name) {
+        ServerClientProperties.Limiter limiterProperties = properties.getLimiter();
+        ServerClientProperties.CircuitBreaker breakerProperties = properties.getCircuitBreaker();
+
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(
+                limiterProperties.getInitialLimit(),
+                limiterProperties.getMinLimit(),
+                properties.getBulkhead().getMaxConcurrentCalls(),
+                limiterProperties.getBackoffRatio(),
+                limiterProperties.getLatencyThreshold().toNanos());
+        CircuitBreaker circuitBreaker = new CircuitBreaker(
+                name,
+                breakerProperties.getSlidingWindowSize(),
+                breakerProperties.getMinimumCalls(),
+                breakerProperties.getFailureRateThreshold(),
+                breakerProperties.getOpenDuration().toMillis(),
+                Clock.systemUTC());
+
+        Gauge.builder("shareit.client.limit", limiter, ConcurrencyLimiter::getLimit)
+                .tag("client", name)
+                .register(meterRegistry);
+        Gauge.builder("shareit.client.in-flight", limiter, ConcurrencyLimiter::getInFlight)
+                .tag("client", name)
+                .register(meterRegistry);
+        Gauge.builder("shareit.client.circuit-breaker.open", circuitBreaker,
+                        breaker -> breaker.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .tag("client", name)
+                .register(meterRegistry);
+
+        return new ClientGuard(name, limiter, circuitBreaker,
+                meterRegistry.counter("shareit.client.rejected", "client", name));
+    }
+}
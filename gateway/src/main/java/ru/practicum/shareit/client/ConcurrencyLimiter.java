@@ -0,0 +1,72 @@
+package ru.practicum.shareit.client;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AIMD concurrency limiter: the limit grows by one per window of successful calls that stay under the latency
+ * threshold and is multiplied by the backoff ratio on slow or failed calls. The limit never exceeds the bulkhead
+ * size, so the bulkhead is the hard ceiling and the limiter keeps the client below it while the server is slow.
+ */
+public class ConcurrencyLimiter {
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    public ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                              long latencyThresholdNanos) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void onSuccess(long latencyNanos) {
+        int current = inFlight.getAndDecrement();
+        if (latencyNanos > latencyThresholdNanos) {
+            decrease();
+        } else if (current * 2 >= limit) {
+            increase();
+        }
+    }
+
+    public void onFailure() {
+        inFlight.decrementAndGet();
+        decrease();
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void increase() {
+        limit = Math.min(maxLimit, limit + 1 / limit);
+    }
+
+    private synchronized void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+}
@@ -0,0 +1,59 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.springframework.boot.autoconfigure.web.client.RestTemplateBuilderConfigurer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import ru.practicum.shareit.client.balancer.LoadBalancingInterceptor;
+import ru.practicum.shareit.tracing.TracingInterceptor;
+
+@Configuration
+@EnableConfigurationProperties(ServerClientProperties.class)
+public class ServerClientConfig {
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient serverHttpClient(ServerClientProperties properties) {
+        return HttpClients.custom()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnections())
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public WireFormat wireFormat(ServerClientProperties properties,
+                                 MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter) {
+        return new WireFormat(properties.getWireFormat() == ServerClientProperties.Encoding.SMILE,
+                smileHttpMessageConverter.getObjectMapper());
+    }
+
+    @Bean
+    public RestTemplateBuilder restTemplateBuilder(RestTemplateBuilderConfigurer configurer,
+                                                   CloseableHttpClient serverHttpClient,
+                                                   TracingInterceptor tracingInterceptor,
+                                                   LoadBalancingInterceptor loadBalancingInterceptor,
+                                                   ServerClientProperties properties) {
+        return configurer.configure(new RestTemplateBuilder())
+                .requestFactory(() -> {
+                    HttpComponentsClientHttpRequestFactory factory =
+                            new HttpComponentsClientHttpRequestFactory(serverHttpClient);
+                    factory.setConnectionRequestTimeout((int) properties.getConnectionRequestTimeout().toMillis());
+                    return factory;
+                })
+                .additionalInterceptors(tracingInterceptor, loadBalancingInterceptor)
+                .setConnectTimeout(properties.getConnectTimeout())
+                .setReadTimeout(properties.getReadTimeout());
+    }
+}
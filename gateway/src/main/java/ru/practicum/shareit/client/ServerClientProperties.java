@@ -0,0 +1,55 @@
+package ru.practicum.shareit.client;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "shareit-server.client")
+public class ServerClientProperties {
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(5);
+    private Duration connectionRequestTimeout = Duration.ofMillis(500);
+    private int maxConnections = 200;
+    private Encoding wireFormat = Encoding.SMILE;
+    private Bulkhead bulkhead = new Bulkhead();
+    private Limiter limiter = new Limiter();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Feed feed = new Feed();
+
+    public enum Encoding {
+        JSON, SMILE
+    }
+
+    @Data
+    public static class Bulkhead {
+        private int maxConcurrentCalls = 50;
+    }
+
+    @Data
+    public static class Limiter {
+        private int initialLimit = 20;
+        private int minLimit = 2;
+        private double backoffRatio = 0.9;
+        private Duration latencyThreshold = Duration.ofMillis(500);
+    }
+
+    @Data
+    public static class CircuitBreaker {
+        private int slidingWindowSize = 50;
+        private int minimumCalls = 20;
+        private int failureRateThreshold = 50;
+        private Duration openDuration = Duration.ofSeconds(10);
+    }
+
+    /**
+     * Event streams proxied from the server; each open stream holds a connection of this pool, separate from the one
+     * for regular calls.
+     */
+    @Data
+    public static class Feed {
+        private int maxConnections = 1000;
+        private Duration readTimeout = Duration.ofSeconds(60);
+    }
+}
@@ -0,0 +1,45 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Encoding used on the gateway-to-server hop. External clients always get JSON from the gateway.
+ */
+public class WireFormat {
+    public static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final MediaType contentType;
+    private final List<MediaType> accept;
+    private final ObjectMapper smileMapper;
+
+    public WireFormat(boolean smile, ObjectMapper smileMapper) {
+        this.contentType = smile ? SMILE : MediaType.APPLICATION_JSON;
+        this.accept = smile ? List.of(SMILE, MediaType.APPLICATION_JSON) : List.of(MediaType.APPLICATION_JSON);
+        this.smileMapper = smileMapper;
+    }
+
+    public MediaType getContentType() {
+        return contentType;
+    }
+
+    public List<MediaType> getAccept() {
+        return accept;
+    }
+
+    public Object decodeErrorBody(HttpStatusCodeException e) {
+        MediaType responseType = e.getResponseHeaders() == null ? null : e.getResponseHeaders().getContentType();
+        if (responseType != null && SMILE.isCompatibleWith(responseType)) {
+            try {
+                return smileMapper.readValue(e.getResponseBodyAsByteArray(), Object.class);
+            } catch (IOException ignored) {
+                return e.getResponseBodyAsByteArray();
+            }
+        }
+        return e.getResponseBodyAsByteArray();
+    }
+}
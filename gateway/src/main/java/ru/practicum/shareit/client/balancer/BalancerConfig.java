@@ -0,0 +1,17 @@
+package ru.practicum.shareit.client.balancer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(BalancerProperties.class)
+public class BalancerConfig {
+    @Bean
+    public LoadBalancingInterceptor loadBalancingInterceptor(LoadBalancer loadBalancer, MeterRegistry meterRegistry) {
+        return new LoadBalancingInterceptor(loadBalancer, meterRegistry);
+    }
+}
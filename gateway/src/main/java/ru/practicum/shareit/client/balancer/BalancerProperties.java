@@ -0,0 +1,42 @@
+package ru.practicum.shareit.client.balancer;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "shareit-server.balancer")
+public class BalancerProperties {
+    private List<String> instances = new ArrayList<>();
+    private Dns dns = new Dns();
+    private HealthCheck healthCheck = new HealthCheck();
+
+    @Data
+    public static class Dns {
+        private String name;
+        private String scheme = "http";
+        private int port = 9090;
+
+        /**
+         * How often {@link #name} is resolved again, in milliseconds.
+         */
+        private long refreshInterval = 30000;
+    }
+
+    @Data
+    public static class HealthCheck {
+        private String path = "/actuator/health";
+
+        /**
+         * How often every instance is checked, in milliseconds.
+         */
+        private long interval = 5000;
+
+        private Duration timeout = Duration.ofSeconds(1);
+        private int unhealthyThreshold = 3;
+        private int healthyThreshold = 2;
+    }
+}
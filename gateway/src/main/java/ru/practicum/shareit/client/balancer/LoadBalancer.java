@@ -0,0 +1,49 @@
+package ru.practicum.shareit.client.balancer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.client.ServerUnavailableException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Power-of-two-choices balancer: picks two random healthy instances and sends the request to the one with fewer
+ * outstanding requests. When every instance is ejected, all of them are considered again rather than failing.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadBalancer {
+    private final ServerInstanceRegistry registry;
+
+    public ServerInstance choose() {
+        List<ServerInstance> all = registry.getInstances();
+        if (all.isEmpty()) {
+            throw new ServerUnavailableException("No ShareIt server instances are configured", 1);
+        }
+
+        List<ServerInstance> candidates = new ArrayList<>(all.size());
+        for (ServerInstance instance : all) {
+            if (instance.isHealthy()) {
+                candidates.add(instance);
+            }
+        }
+        if (candidates.isEmpty()) {
+            candidates = all;
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServerInstance a = candidates.get(first);
+        ServerInstance b = candidates.get(second);
+        return a.getOutstanding() <= b.getOutstanding() ? a : b;
+    }
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.client.balancer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+@Slf4j
+public class LoadBalancingInterceptor implements ClientHttpRequestInterceptor, Ordered {
+    private final LoadBalancer loadBalancer;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        ServerInstance instance = loadBalancer.choose();
+        URI target = UriComponentsBuilder.fromUri(request.getURI())
+                .scheme(instance.getUri().getScheme())
+                .host(instance.getUri().getHost())
+                .port(instance.getUri().getPort())
+                .build(true)
+                .toUri();
+
+        String outcome = "success";
+        long start = System.nanoTime();
+        instance.onRequestStarted();
+        try {
+            ClientHttpResponse response = execution.execute(new HttpRequestWrapper(request) {
+                @Override
+                public URI getURI() {
+                    return target;
+                }
+            }, body);
+            if (response.getRawStatusCode() >= 500) {
+                outcome = "server_error";
+            }
+            return response;
+        } catch (IOException e) {
+            outcome = "io_error";
+            if (instance.markFailure()) {
+                log.warn("Ejected ShareIt server instance {} after request failures", instance);
+            }
+            throw e;
+        } finally {
+            instance.onRequestFinished();
+            Timer.builder("shareit.client.instance.requests")
+                    .tag("instance", instance.getId())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package ru.practicum.shareit.client.balancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+@Component
+@Slf4j
+public class ServerHealthChecker {
+    private final ServerInstanceRegistry registry;
+    private final RestTemplate rest;
+    private final String path;
+
+    public ServerHealthChecker(ServerInstanceRegistry registry, BalancerProperties properties) {
+        this.registry = registry;
+        this.path = properties.getHealthCheck().getPath();
+        this.rest = new RestTemplateBuilder()
+                .setConnectTimeout(properties.getHealthCheck().getTimeout())
+                .setReadTimeout(properties.getHealthCheck().getTimeout())
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${shareit-server.balancer.health-check.interval:5000}")
+    public void check() {
+        for (ServerInstance instance : registry.getInstances()) {
+            boolean up;
+            try {
+                up = rest.getForEntity(instance.getUri().resolve(path), String.class).getStatusCode().is2xxSuccessful();
+            } catch (RestClientException e) {
+                up = false;
+            }
+
+            if (up && instance.markSuccess()) {
+                log.info("ShareIt server instance {} is healthy again", instance);
+            } else if (!up && instance.markFailure()) {
+                log.warn("Ejected ShareIt server instance {} after failed health checks", instance);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package ru.practicum.shareit.client.balancer;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ServerInstance {
+    private final URI uri;
+    private final int unhealthyThreshold;
+    private final int healthyThreshold;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private volatile boolean healthy = true;
+    private int consecutiveFailures;
+    private int consecutiveSuccesses;
+
+    public ServerInstance(URI uri, int unhealthyThreshold, int healthyThreshold) {
+        this.uri = uri;
+        this.unhealthyThreshold = unhealthyThreshold;
+        this.healthyThreshold = healthyThreshold;
+    }
+
+    public URI getUri() {
+        return uri;
+    }
+
+    public String getId() {
+        return uri.getHost() + ":" + uri.getPort();
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    public void onRequestStarted() {
+        outstanding.incrementAndGet();
+    }
+
+    public void onRequestFinished() {
+        outstanding.decrementAndGet();
+    }
+
+    public synchronized boolean markSuccess() {
+        consecutiveFailures = 0;
+        if (!healthy && ++consecutiveSuccesses >= healthyThreshold) {
+            healthy = true;
+            consecutiveSuccesses = 0;
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized boolean markFailure() {
+        consecutiveSuccesses = 0;
+        if (healthy && ++consecutiveFailures >= unhealthyThreshold) {
+            healthy = false;
+            consecutiveFailures = 0;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return uri.toString();
+    }
+}
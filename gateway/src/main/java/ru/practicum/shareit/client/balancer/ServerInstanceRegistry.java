@@ -0,0 +1,99 @@
+package ru.practicum.shareit.client.balancer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Slf4j
+public class ServerInstanceRegistry {
+    private final BalancerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<URI, List<Meter>> meters = new LinkedHashMap<>();
+    private volatile List<ServerInstance> instances = List.of();
+
+    public ServerInstanceRegistry(BalancerProperties properties,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${shareit-server.url}") String serverUrl) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        List<URI> uris = new ArrayList<>();
+        if (properties.getInstances().isEmpty()) {
+            uris.add(URI.create(serverUrl));
+        } else {
+            properties.getInstances().forEach(instance -> uris.add(URI.create(instance.trim())));
+        }
+        update(uris);
+        refreshFromDns();
+    }
+
+    public List<ServerInstance> getInstances() {
+        return instances;
+    }
+
+    @Scheduled(fixedDelayString = "${shareit-server.balancer.dns.refresh-interval:30000}")
+    public void refreshFromDns() {
+        BalancerProperties.Dns dns = properties.getDns();
+        if (dns.getName() == null || dns.getName().isBlank()) {
+            return;
+        }
+
+        try {
+            List<URI> uris = new ArrayList<>();
+            for (InetAddress address : InetAddress.getAllByName(dns.getName())) {
+                uris.add(URI.create(dns.getScheme() + "://" + address.getHostAddress() + ":" + dns.getPort()));
+            }
+            update(uris);
+        } catch (UnknownHostException e) {
+            log.warn("Failed to resolve ShareIt server instances from {}, keeping {}", dns.getName(), instances);
+        }
+    }
+
+    private synchronized void update(List<URI> uris) {
+        Map<URI, ServerInstance> current = new LinkedHashMap<>();
+        instances.forEach(instance -> current.put(instance.getUri(), instance));
+
+        List<ServerInstance> updated = new ArrayList<>();
+        for (URI uri : uris) {
+            ServerInstance instance = current.remove(uri);
+            if (instance == null) {
+                instance = new ServerInstance(uri,
+                        properties.getHealthCheck().getUnhealthyThreshold(),
+                        properties.getHealthCheck().getHealthyThreshold());
+                registerMeters(instance);
+                log.info("Added ShareIt server instance {}", uri);
+            }
+            updated.add(instance);
+        }
+        for (ServerInstance removed : current.values()) {
+            meters.remove(removed.getUri()).forEach(meterRegistry::remove);
+            log.info("Removed ShareIt server instance {}", removed.getUri());
+        }
+        instances = List.copyOf(updated);
+    }
+
+    private void registerMeters(ServerInstance instance) {
+        Tags tags = Tags.of("instance", instance.getId());
+        meters.put(instance.getUri(), List.of(
+                Gauge.builder("shareit.client.instance.outstanding", instance, ServerInstance::getOutstanding)
+                        .tags(tags)
+                        .register(meterRegistry),
+                Gauge.builder("shareit.client.instance.healthy", instance, i -> i.isHealthy() ? 1 : 0)
+                        .tags(tags)
+                        .register(meterRegistry)));
+    }
+}
@@ -4,10 +4,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ClientGuards;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
@@ -18,11 +18,12 @@ public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientGuards guards) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .additionalInterceptors(guards.forClient("items"))
                         .build()
         );
     }
@@ -35,7 +36,15 @@ public class ItemClient extends BaseClient {
     }
 
     public ResponseEntity<Object> getItemById(long userId, long itemId) {
-        return get("/" + itemId, userId);
+        return get("/{itemId}", userId, Map.of("itemId", itemId));
+    }
+
+    public ResponseEntity<Object> getComments(long userId, long itemId, long from, long size) {
+        Map<String, Object> parameters = Map.of(
+                "itemId", itemId,
+                "from", from,
+                "size", size);
+        return get("/{itemId}/comments?from={from}&size={size}", userId, parameters);
     }
 
     public ResponseEntity<Object> searchText(long userId, String text, long from, long size) {
@@ -51,10 +60,10 @@ public class ItemClient extends BaseClient {
     }
 
     public ResponseEntity<Object> updateItem(ItemDto itemDto, long itemId, long userId) {
-        return patch("/" + itemId, userId, itemDto);
+        return patch("/{itemId}", userId, Map.of("itemId", itemId), itemDto);
     }
 
     public ResponseEntity<Object> addComment(CommentDto commentDto, long itemId, long authorId) {
-        return post("/" + itemId + "/comment", authorId, commentDto);
+        return post("/{itemId}/comment", authorId, Map.of("itemId", itemId), commentDto);
     }
 }
@@ -45,6 +45,15 @@ public class ItemController {
         return itemClient.getItemById(userId, itemId);
     }
 
+    @GetMapping("/{itemId}/comments")
+    public ResponseEntity<Object> getComments(@RequestHeader(USER_ID) long userId,
+                                              @PathVariable long itemId,
+                                              @PositiveOrZero @RequestParam(defaultValue = "0") int from,
+                                              @Positive @RequestParam(defaultValue = "10") int size) {
+        log.info("Get comments, itemId={}, from={}, size={}", itemId, from, size);
+        return itemClient.getComments(userId, itemId, from, size);
+    }
+
     @GetMapping("/search")
     public ResponseEntity<Object> searchText(@RequestHeader(USER_ID) long userId,
                                              @RequestParam String text,
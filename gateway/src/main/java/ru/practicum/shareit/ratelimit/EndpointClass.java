@@ -0,0 +1,17 @@
+package ru.practicum.shareit.ratelimit;
+
+public enum EndpointClass {
+    SEARCH,
+    BOOKINGS,
+    DEFAULT;
+
+    public static EndpointClass of(String path) {
+        if (path.startsWith("/items/search")) {
+            return SEARCH;
+        }
+        if (path.startsWith("/bookings")) {
+            return BOOKINGS;
+        }
+        return DEFAULT;
+    }
+}
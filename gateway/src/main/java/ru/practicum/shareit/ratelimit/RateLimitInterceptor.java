@@ -0,0 +1,33 @@
+package ru.practicum.shareit.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private static final String USER_ID = "X-Sharer-User-Id";
+    private final RateLimiter rateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String header = request.getHeader(USER_ID);
+        if (header == null) {
+            return true;
+        }
+
+        long userId;
+        try {
+            userId = Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return true;
+        }
+
+        rateLimiter.acquire(userId, EndpointClass.of(request.getRequestURI()));
+        return true;
+    }
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "shareit.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private Duration idleTimeout = Duration.ofMinutes(5);
+    private Map<EndpointClass, Limit> limits = new EnumMap<>(EndpointClass.class);
+
+    public Limit getLimit(EndpointClass endpointClass) {
+        return limits.getOrDefault(endpointClass, limits.getOrDefault(EndpointClass.DEFAULT, new Limit()));
+    }
+
+    @Data
+    public static class Limit {
+        private int capacity = 100;
+        private double refillPerSecond = 50;
+    }
+}
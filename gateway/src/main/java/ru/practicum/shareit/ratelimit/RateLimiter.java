@@ -0,0 +1,54 @@
+package ru.practicum.shareit.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Slf4j
+public class RateLimiter {
+    private final RateLimitProperties properties;
+    private final Map<EndpointClass, ConcurrentHashMap<Long, TokenBucket>> buckets = new EnumMap<>(EndpointClass.class);
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            buckets.put(endpointClass, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void acquire(long userId, EndpointClass endpointClass) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        ConcurrentHashMap<Long, TokenBucket> classBuckets = buckets.get(endpointClass);
+        TokenBucket bucket = classBuckets.get(userId);
+        if (bucket == null) {
+            RateLimitProperties.Limit limit = properties.getLimit(endpointClass);
+            bucket = classBuckets.computeIfAbsent(userId,
+                    id -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+        }
+
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos > 0) {
+            throw new RateLimitExceededException(
+                    String.format("Too many %s requests from user ID %d", endpointClass.name().toLowerCase(), userId),
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.rate-limit.eviction-interval:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        buckets.values().forEach(classBuckets ->
+                classBuckets.values().removeIf(bucket -> bucket.isIdleSince(now, idleNanos)));
+    }
+}
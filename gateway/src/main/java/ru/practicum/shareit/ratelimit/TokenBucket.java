@@ -0,0 +1,42 @@
+package ru.practicum.shareit.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket implemented as a generic cell rate algorithm: the only state is the theoretical arrival time of the
+ * next request, so taking a token is a single compare-and-set without locks.
+ */
+public class TokenBucket {
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        this.emissionIntervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one token.
+     *
+     * @return 0 if the token was taken, otherwise the number of nanoseconds until a token becomes available
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long waitNanos = next - nowNanos - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public boolean isIdleSince(long nowNanos, long idleNanos) {
+        return theoreticalArrival.get() + idleNanos < nowNanos;
+    }
+}
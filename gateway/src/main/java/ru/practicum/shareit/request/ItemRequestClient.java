@@ -4,10 +4,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ClientGuards;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import java.util.Map;
@@ -17,11 +17,12 @@ public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                             ClientGuards guards) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .additionalInterceptors(guards.forClient("requests"))
                         .build()
         );
     }
@@ -31,12 +32,17 @@ public class ItemRequestClient extends BaseClient {
         return get("/all?from={from}&size={size}", userId, parameters);
     }
 
+    public ResponseEntity<Object> getAllRequestsBefore(long userId, long before, int size) {
+        Map<String, Object> parameters = Map.of("before", before, "size", size);
+        return get("/all?before={before}&size={size}", userId, parameters);
+    }
+
     public ResponseEntity<Object> getAllRequestsByRequester(long requesterId) {
         return get("", requesterId);
     }
 
     public ResponseEntity<Object> getRequestById(long requestId, long userId) {
-        return get("/" + requestId, userId);
+        return get("/{requestId}", userId, Map.of("requestId", requestId));
     }
 
     public ResponseEntity<Object> addRequest(ItemRequestDto itemRequestDto, long userId) {
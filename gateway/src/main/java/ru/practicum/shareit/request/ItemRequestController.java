@@ -30,8 +30,12 @@ public class ItemRequestController {
     @GetMapping("/all")
     public ResponseEntity<Object> getAll(@RequestHeader(USER_ID) long userId,
                                          @PositiveOrZero @RequestParam(defaultValue = "0") int from,
-                                         @Positive @RequestParam(defaultValue = "10") int size) {
-        log.info("Get all requests, userId-{}, from={}, size={}", userId, from, size);
+                                         @Positive @RequestParam(defaultValue = "10") int size,
+                                         @Positive @RequestParam(required = false) Long before) {
+        log.info("Get all requests, userId-{}, from={}, before={}, size={}", userId, from, before, size);
+        if (before != null) {
+            return itemRequestClient.getAllRequestsBefore(userId, before, size);
+        }
         return itemRequestClient.getAllRequests(userId, from, size);
     }
 
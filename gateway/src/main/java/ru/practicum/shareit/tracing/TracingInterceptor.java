@@ -0,0 +1,69 @@
+package ru.practicum.shareit.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+
+/**
+ * Client span around every call to the server, with the trace context passed on in the {@code traceparent} header.
+ * Runs before the client guard and the load balancer, so the span covers bulkhead rejections, pool wait and the
+ * server's own time; the gap between this span and the server span is connection pool wait plus network.
+ */
+@RequiredArgsConstructor
+public class TracingInterceptor implements ClientHttpRequestInterceptor, Ordered {
+    private final ContextPropagators propagators;
+    private final Tracer tracer;
+
+    @Override
+    @NonNull
+    public ClientHttpResponse intercept(@NonNull HttpRequest request, @NonNull byte[] body,
+                                        @NonNull ClientHttpRequestExecution execution) throws IOException {
+        Span span = tracer.spanBuilder(request.getMethodValue() + " " + resource(request.getURI().getPath()))
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute("http.method", request.getMethodValue())
+                .setAttribute("http.url", request.getURI().toString())
+                .startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            propagators.getTextMapPropagator().inject(Context.current(), request.getHeaders(),
+                    (headers, key, value) -> headers.set(key, value));
+            ClientHttpResponse response = execution.execute(request, body);
+            span.setAttribute("http.status_code", response.getRawStatusCode());
+            if (response.getRawStatusCode() >= 500) {
+                span.setStatus(StatusCode.ERROR);
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    /**
+     * First path segment, e.g. {@code /items} for {@code /items/42/comment}, to keep span names low-cardinality.
+     */
+    private static String resource(String path) {
+        int end = path.indexOf('/', 1);
+        return end < 0 ? path : path.substring(0, end);
+    }
+}
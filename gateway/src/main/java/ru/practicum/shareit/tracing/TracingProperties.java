@@ -0,0 +1,29 @@
+package ru.practicum.shareit.tracing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("shareit.tracing")
+public class TracingProperties {
+    private String serviceName = "shareit-gateway";
+
+    /**
+     * Where finished spans go: {@code none}, {@code logging} (one log line per span) or {@code otlp}.
+     */
+    private Exporter exporter = Exporter.NONE;
+
+    /**
+     * OTLP/gRPC endpoint of the collector.
+     */
+    private String otlpEndpoint = "http://localhost:4317";
+
+    /**
+     * Share of new traces to sample; requests that arrive with a sampled parent are always sampled.
+     */
+    private double sampleRatio = 1.0;
+
+    public enum Exporter {
+        NONE, LOGGING, OTLP
+    }
+}
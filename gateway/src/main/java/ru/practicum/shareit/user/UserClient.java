@@ -3,23 +3,27 @@ package ru.practicum.shareit.user;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ClientGuards;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import java.util.Map;
+
 @Service
 public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
 
     @Autowired
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientGuards guards) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .additionalInterceptors(guards.forClient("users"))
                         .build()
         );
     }
@@ -29,18 +33,39 @@ public class UserClient extends BaseClient {
     }
 
     public ResponseEntity<Object> getUserById(long userId) {
-        return get("/" + userId);
+        ResponseEntity<Object> response = get("/{userId}", null, Map.of("userId", userId));
+        if (response.getStatusCode().is2xxSuccessful()) {
+            userExistenceCache.markExists(userId);
+        } else if (response.getStatusCode() == HttpStatus.NOT_FOUND) {
+            userExistenceCache.markMissing(userId);
+        }
+        return response;
     }
 
     public ResponseEntity<Object> addUser(UserDto userDto) {
-        return post("", userDto);
+        ResponseEntity<Object> response = post("", userDto);
+        if (response.getStatusCode().is2xxSuccessful() && response.getBody() instanceof Map) {
+            Object id = ((Map<?, ?>) response.getBody()).get("id");
+            if (id instanceof Number) {
+                userExistenceCache.markExists(((Number) id).longValue());
+            }
+        }
+        return response;
     }
 
     public ResponseEntity<Object> updateUser(UserDto userDto, long userId) {
-        return patch("/" + userId, userDto);
+        ResponseEntity<Object> response = patch("/{userId}", null, Map.of("userId", userId), userDto);
+        if (response.getStatusCode().is2xxSuccessful()) {
+            userExistenceCache.markExists(userId);
+        }
+        return response;
     }
 
     public ResponseEntity<Object> deleteUser(long userId) {
-        return delete("/" + userId);
+        ResponseEntity<Object> response = delete("/{userId}", null, Map.of("userId", userId));
+        if (response.getStatusCode().is2xxSuccessful()) {
+            userExistenceCache.markMissing(userId);
+        }
+        return response;
     }
 }
@@ -0,0 +1,65 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class UserExistenceCache {
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final long positiveTtlMillis;
+    private final long negativeTtlMillis;
+    private final int maxSize;
+
+    public UserExistenceCache(@Value("${shareit.user-cache.positive-ttl:10m}") Duration positiveTtl,
+                              @Value("${shareit.user-cache.negative-ttl:1m}") Duration negativeTtl,
+                              @Value("${shareit.user-cache.max-size:100000}") int maxSize) {
+        this.positiveTtlMillis = positiveTtl.toMillis();
+        this.negativeTtlMillis = negativeTtl.toMillis();
+        this.maxSize = maxSize;
+    }
+
+    public boolean isKnownMissing(long userId) {
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            entries.remove(userId, entry);
+            return false;
+        }
+        return !entry.exists;
+    }
+
+    public void markExists(long userId) {
+        put(userId, new Entry(true, System.currentTimeMillis() + positiveTtlMillis));
+    }
+
+    public void markMissing(long userId) {
+        put(userId, new Entry(false, System.currentTimeMillis() + negativeTtlMillis));
+    }
+
+    private void put(long userId, Entry entry) {
+        if (entries.size() >= maxSize) {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(e -> e.expiresAt < now);
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+        entries.put(userId, entry);
+    }
+
+    private static class Entry {
+        private final boolean exists;
+        private final long expiresAt;
+
+        private Entry(boolean exists, long expiresAt) {
+            this.exists = exists;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+@Component
+@RequiredArgsConstructor
+public class UserExistenceInterceptor implements HandlerInterceptor {
+    private static final String USER_ID = "X-Sharer-User-Id";
+    private final UserExistenceCache userExistenceCache;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String header = request.getHeader(USER_ID);
+        if (header == null) {
+            return true;
+        }
+
+        long userId;
+        try {
+            userId = Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return true;
+        }
+
+        if (userExistenceCache.isKnownMissing(userId)) {
+            throw new UserNotFoundException(String.format("User ID %d is not found", userId));
+        }
+        return true;
+    }
+}
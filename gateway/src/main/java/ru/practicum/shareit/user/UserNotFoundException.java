@@ -0,0 +1,7 @@
+package ru.practicum.shareit.user;
+
+public class UserNotFoundException extends RuntimeException {
+    public UserNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,86 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A gateway or server jar running in its own JVM, the way it runs in production.
+ */
+class ApplicationProcess implements AutoCloseable {
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final String name;
+    private final Process process;
+    private final Path log;
+
+    private ApplicationProcess(String name, Process process, Path log) {
+        this.name = name;
+        this.process = process;
+        this.log = log;
+    }
+
+    static ApplicationProcess start(String name, Path jar, Path workDir, List<String> args) throws IOException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(jar.toAbsolutePath() + " not found, run mvn package first");
+        }
+        List<String> command = new ArrayList<>(List.of("java", "-jar", jar.toAbsolutePath().toString()));
+        command.addAll(args);
+        Path log = workDir.resolve(name + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        return new ApplicationProcess(name, process, log);
+    }
+
+    void awaitHealthy(int port) throws InterruptedException {
+        await(port, "/actuator/health");
+    }
+
+    /**
+     * Waits for the readiness probe, which reports ready only after the startup work run on
+     * {@code ApplicationReadyEvent} has finished. Needs {@code management.endpoint.health.probes.enabled}.
+     */
+    void awaitReady(int port) throws InterruptedException {
+        await(port, "/actuator/health/readiness");
+    }
+
+    private void await(int port, String path) throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with code " + process.exitValue() + ", see " + log);
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(name + " did not become healthy in " + STARTUP_TIMEOUT + ", see " + log);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package ru.practicum.shareit.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+/**
+ * Fills the server database over JDBC. Going through the API would be too slow for realistic sizes and could not
+ * create bookings in the past. Rows are inserted without ids into freshly created tables, so ids are 1..n in
+ * insertion order and {@link Workload} can pick them without reading them back.
+ */
+class DataSeeder {
+    private static final int BATCH_SIZE = 1000;
+    private static final String[] STATUSES = {"APPROVED", "APPROVED", "WAITING", "REJECTED"};
+    static final String[] TOOLS = {"Drill", "Saw", "Ladder", "Tent", "Bike", "Projector", "Kayak", "Mixer"};
+
+    private final LoadTestOptions options;
+    private final Random random = new Random(42);
+
+    DataSeeder(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    static String itemName(long itemId) {
+        return TOOLS[(int) (itemId % TOOLS.length)] + " " + itemId;
+    }
+
+    static boolean isAvailable(long itemId) {
+        return itemId % 10 != 0;
+    }
+
+    void seed() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                options.jdbcUrl(), options.dbUser(), options.dbPassword())) {
+            connection.setAutoCommit(false);
+            if ("postgres".equals(options.database())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("truncate users, requests, items, bookings, comments restart identity cascade");
+                }
+            }
+            seedUsers(connection);
+            seedRequests(connection);
+            seedItems(connection);
+            seedBookings(connection);
+            seedComments(connection);
+            connection.commit();
+        }
+    }
+
+    private void seedUsers(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into users (name, email) values (?, ?)")) {
+            for (int id = 1; id <= options.users(); id++) {
+                statement.setString(1, "User " + id);
+                statement.setString(2, "user" + id + "@shareit.ru");
+                addBatch(statement, id);
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void seedRequests(Connection connection) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into requests (description, requester_id, created) values (?, ?, ?)")) {
+            for (int id = 1; id <= options.requests(); id++) {
+                statement.setString(1, "Looking for a " + TOOLS[id % TOOLS.length].toLowerCase());
+                statement.setLong(2, randomUser());
+                statement.setTimestamp(3, Timestamp.valueOf(now.minusMinutes(random.nextInt(60 * 24 * 90))));
+                addBatch(statement, id);
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void seedItems(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into items (name, description, is_available, owner_id, request_id) values (?, ?, ?, ?, ?)")) {
+            long items = options.itemCount();
+            for (long id = 1; id <= items; id++) {
+                statement.setString(1, itemName(id));
+                statement.setString(2, "Good " + itemName(id).toLowerCase() + ", rarely used");
+                statement.setBoolean(3, isAvailable(id));
+                statement.setLong(4, options.ownerOf(id));
+                if (options.requests() > 0 && id % 5 == 0) {
+                    statement.setLong(5, random.nextInt(options.requests()) + 1);
+                } else {
+                    statement.setObject(5, null);
+                }
+                addBatch(statement, id);
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void seedBookings(Connection connection) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into bookings (start_time, end_time, item_id, booker_id, status) values (?, ?, ?, ?, ?)")) {
+            long count = 0;
+            for (long itemId = 1; itemId <= options.itemCount(); itemId++) {
+                for (int i = 0; i < options.bookingsPerItem(); i++) {
+                    LocalDateTime start = now.plusHours(random.nextInt(24 * 365 * 2) - 24 * 365);
+                    statement.setTimestamp(1, Timestamp.valueOf(start));
+                    statement.setTimestamp(2, Timestamp.valueOf(start.plusDays(2)));
+                    statement.setLong(3, itemId);
+                    statement.setLong(4, randomUser());
+                    statement.setString(5, STATUSES[random.nextInt(STATUSES.length)]);
+                    addBatch(statement, ++count);
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void seedComments(Connection connection) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into comments (text, item_id, author_id, created) values (?, ?, ?, ?)")) {
+            long count = 0;
+            for (long itemId = 1; itemId <= options.itemCount(); itemId++) {
+                for (int i = 0; i < options.commentsPerItem(); i++) {
+                    statement.setString(1, "Worked fine, returned on time");
+                    statement.setLong(2, itemId);
+                    statement.setLong(3, randomUser());
+                    statement.setTimestamp(4, Timestamp.valueOf(now.minusHours(random.nextInt(24 * 365))));
+                    addBatch(statement, ++count);
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private long randomUser() {
+        return random.nextInt(options.users()) + 1;
+    }
+
+    private static void addBatch(PreparedStatement statement, long row) throws SQLException {
+        statement.addBatch();
+        if (row % BATCH_SIZE == 0) {
+            statement.executeBatch();
+        }
+    }
+}
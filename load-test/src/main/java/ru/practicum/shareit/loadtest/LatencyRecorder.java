@@ -0,0 +1,43 @@
+package ru.practicum.shareit.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-worker latency histograms, one per call name. Owned by a single thread; the harness reads it after the worker
+ * has finished.
+ */
+class LatencyRecorder {
+    static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<String, Histogram> histograms = new HashMap<>();
+    private final Map<String, Long> errors = new HashMap<>();
+    private volatile boolean active;
+
+    void activate() {
+        active = true;
+    }
+
+    void record(String name, long nanos, boolean success) {
+        if (!active) {
+            return;
+        }
+        if (success) {
+            histograms.computeIfAbsent(name, key -> new Histogram(HIGHEST_TRACKABLE_NANOS, 3))
+                    .recordValue(Math.min(nanos, HIGHEST_TRACKABLE_NANOS));
+        } else {
+            errors.merge(name, 1L, Long::sum);
+        }
+    }
+
+    Map<String, Histogram> getHistograms() {
+        return histograms;
+    }
+
+    Map<String, Long> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,72 @@
+package ru.practicum.shareit.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Merged results of all workers: throughput and latency percentiles per call, plus an {@code .hgrm} percentile
+ * distribution per call that can be plotted or diffed between runs.
+ */
+class LatencyReport {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<String, Histogram> histograms = new TreeMap<>();
+    private final Map<String, Long> errors = new TreeMap<>();
+    private final Duration measured;
+
+    LatencyReport(List<LatencyRecorder> recorders, Duration measured) {
+        this.measured = measured;
+        for (LatencyRecorder recorder : recorders) {
+            recorder.getHistograms().forEach((name, histogram) -> histograms
+                    .computeIfAbsent(name, key -> new Histogram(LatencyRecorder.HIGHEST_TRACKABLE_NANOS, 3))
+                    .add(histogram));
+            recorder.getErrors().forEach((name, count) -> errors.merge(name, count, Long::sum));
+        }
+    }
+
+    void print(PrintStream out) {
+        double seconds = measured.toMillis() / 1000.0;
+        out.printf("%-15s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "call", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        long total = 0;
+        for (String name : names()) {
+            Histogram histogram = histograms.getOrDefault(name, new Histogram(1));
+            long count = histogram.getTotalCount();
+            total += count;
+            out.printf("%-15s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, count,
+                    errors.getOrDefault(name, 0L), count / seconds,
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / NANOS_PER_MILLI);
+        }
+        out.printf("%-15s %9d %7d %9.1f%n", "total", total,
+                errors.values().stream().mapToLong(Long::longValue).sum(), total / seconds);
+    }
+
+    void write(Path directory) throws IOException {
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey() + ".hgrm")))) {
+                entry.getValue().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+    }
+
+    private Set<String> names() {
+        Set<String> names = new TreeSet<>(histograms.keySet());
+        names.addAll(errors.keySet());
+        return names;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,125 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots server and gateway from their jars, seeds the database and replays a weighted operation mix through the
+ * gateway from a fixed number of closed-loop workers. Options are described in {@link LoadTestOptions}.
+ * <p>
+ * The server creates the schema on startup, so it is started once before seeding and stopped, then started again on
+ * the seeded database. Nothing it loads at startup or caches is left over from the empty one.
+ */
+public class LoadTest {
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = new LoadTestOptions(args);
+        Path workDir = options.workDir();
+        Files.createDirectories(workDir);
+
+        List<ApplicationProcess> processes = new ArrayList<>();
+        try {
+            if (options.boot()) {
+                for (String suffix : List.of(".mv.db", ".trace.db", ".lock.db")) {
+                    Files.deleteIfExists(workDir.resolve("shareit" + suffix));
+                }
+                if (options.seed()) {
+                    // only creates the schema: the server that is measured must start on seeded data, otherwise
+                    // its startup request feed backfill and request match index load see empty tables
+                    try (ApplicationProcess schema = startServer(options, workDir)) {
+                        schema.awaitHealthy(options.serverPort());
+                    }
+                }
+            }
+            if (options.seed()) {
+                long started = System.nanoTime();
+                new DataSeeder(options).seed();
+                System.out.printf("Seeded %d users, %d items in %d s%n", options.users(), options.itemCount(),
+                        TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started));
+                if (!options.boot()) {
+                    // a running server keeps serving the previous rows from its entity cache
+                    System.out.println("Restart the server and run again with --seed=false");
+                    return;
+                }
+            }
+            if (options.boot()) {
+                ApplicationProcess server = startServer(options, workDir);
+                processes.add(server);
+                server.awaitReady(options.serverPort());
+                ApplicationProcess gateway = ApplicationProcess.start("gateway", options.gatewayJar(), workDir,
+                        List.of("--server.port=" + options.gatewayPort(),
+                                "--shareit-server.url=http://localhost:" + options.serverPort(),
+                                "--shareit.rate-limit.enabled=false"));
+                processes.add(gateway);
+                gateway.awaitHealthy(options.gatewayPort());
+            }
+
+            LatencyReport report = run(options);
+            report.print(System.out);
+            report.write(workDir);
+        } finally {
+            for (int i = processes.size() - 1; i >= 0; i--) {
+                processes.get(i).close();
+            }
+        }
+    }
+
+    private static LatencyReport run(LoadTestOptions options) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        Workload workload = new Workload(client, options);
+        Operation.Mix mix = new Operation.Mix(options.mix());
+
+        long warmupEnd = System.nanoTime() + options.warmup().toNanos();
+        long end = warmupEnd + options.duration().toNanos();
+        List<LatencyRecorder> recorders = new ArrayList<>();
+        List<Future<?>> workers = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(options.threads());
+        for (int i = 0; i < options.threads(); i++) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            Random random = new Random(i);
+            recorders.add(recorder);
+            workers.add(executor.submit(() -> {
+                while (System.nanoTime() < end) {
+                    workload.execute(mix.next(random), random, recorder);
+                }
+                return null;
+            }));
+        }
+
+        System.out.printf("Warming up for %d s with %d threads%n", options.warmup().toSeconds(), options.threads());
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, warmupEnd - System.nanoTime()));
+        recorders.forEach(LatencyRecorder::activate);
+        System.out.printf("Measuring for %d s%n", options.duration().toSeconds());
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        executor.shutdown();
+        return new LatencyReport(recorders, options.duration());
+    }
+
+    private static ApplicationProcess startServer(LoadTestOptions options, Path workDir) throws IOException {
+        return ApplicationProcess.start("server", options.serverJar(), workDir, List.of(
+                "--server.port=" + options.serverPort(),
+                "--spring.profiles.active=" + ("postgres".equals(options.database()) ? "postgres" : "default"),
+                "--spring.datasource.driverClassName=" + driverClassName(options),
+                "--spring.datasource.url=" + options.jdbcUrl(),
+                "--spring.datasource.username=" + options.dbUser(),
+                "--spring.datasource.password=" + options.dbPassword(),
+                "--management.endpoint.health.probes.enabled=true"));
+    }
+
+    private static String driverClassName(LoadTestOptions options) {
+        return "postgres".equals(options.database()) ? "org.postgresql.Driver" : "org.h2.Driver";
+    }
+}
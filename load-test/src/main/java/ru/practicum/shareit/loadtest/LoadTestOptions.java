@@ -0,0 +1,130 @@
+package ru.practicum.shareit.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line options in {@code --name=value} form. Every option has a default, so the harness runs without any.
+ */
+class LoadTestOptions {
+    private final Map<String, String> values = new HashMap<>();
+
+    LoadTestOptions(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+    }
+
+    boolean boot() {
+        return Boolean.parseBoolean(get("boot", "true"));
+    }
+
+    Path serverJar() {
+        return Path.of(get("server-jar", "../server/target/shareit-server-0.0.1-SNAPSHOT-exec.jar"));
+    }
+
+    Path gatewayJar() {
+        return Path.of(get("gateway-jar", "../gateway/target/shareit-gateway-0.0.1-SNAPSHOT.jar"));
+    }
+
+    int serverPort() {
+        return getInt("server-port", 9090);
+    }
+
+    int gatewayPort() {
+        return getInt("gateway-port", 8080);
+    }
+
+    String gatewayUrl() {
+        return get("gateway-url", "http://localhost:" + gatewayPort());
+    }
+
+    Path workDir() {
+        return Path.of(get("work-dir", "target/load-test")).toAbsolutePath();
+    }
+
+    /**
+     * {@code h2} runs the server on an H2 file database that the harness seeds through H2's auto-server mode;
+     * {@code postgres} expects an empty or disposable database at {@code --jdbc-url}.
+     */
+    String database() {
+        return get("database", "h2");
+    }
+
+    String jdbcUrl() {
+        if ("postgres".equals(database())) {
+            return get("jdbc-url", "jdbc:postgresql://localhost:6541/shareit");
+        }
+        return get("jdbc-url", "jdbc:h2:file:" + workDir().resolve("shareit") + ";AUTO_SERVER=TRUE");
+    }
+
+    String dbUser() {
+        return get("db-user", "postgres".equals(database()) ? "postgres" : "test");
+    }
+
+    String dbPassword() {
+        return get("db-password", "postgres".equals(database()) ? "postgres" : "test");
+    }
+
+    boolean seed() {
+        return Boolean.parseBoolean(get("seed", "true"));
+    }
+
+    int users() {
+        return getInt("users", 1000);
+    }
+
+    int itemsPerUser() {
+        return getInt("items-per-user", 5);
+    }
+
+    int bookingsPerItem() {
+        return getInt("bookings-per-item", 10);
+    }
+
+    int commentsPerItem() {
+        return getInt("comments-per-item", 2);
+    }
+
+    int requests() {
+        return getInt("requests", 2000);
+    }
+
+    long itemCount() {
+        return (long) users() * itemsPerUser();
+    }
+
+    long ownerOf(long itemId) {
+        return (itemId - 1) / itemsPerUser() + 1;
+    }
+
+    int threads() {
+        return getInt("threads", 16);
+    }
+
+    Duration warmup() {
+        return Duration.ofSeconds(getInt("warmup-seconds", 10));
+    }
+
+    Duration duration() {
+        return Duration.ofSeconds(getInt("duration-seconds", 60));
+    }
+
+    String mix() {
+        return get("mix", "search=25,itemDetail=20,ownerItems=15,ownerBookings=15,requestFeed=15,booking=10");
+    }
+
+    private String get(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    private int getInt(String name, int defaultValue) {
+        return Integer.parseInt(get(name, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,63 @@
+package ru.practicum.shareit.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+enum Operation {
+    SEARCH("search"),
+    ITEM_DETAIL("itemDetail"),
+    OWNER_ITEMS("ownerItems"),
+    OWNER_BOOKINGS("ownerBookings"),
+    REQUEST_FEED("requestFeed"),
+    BOOKING("booking");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    static Operation of(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + key);
+    }
+
+    /**
+     * Weighted choice of operations parsed from {@code search=25,booking=10,...}.
+     */
+    static class Mix {
+        private final List<Operation> operations = new ArrayList<>();
+        private final List<Integer> cumulativeWeights = new ArrayList<>();
+        private int totalWeight;
+
+        Mix(String spec) {
+            for (String entry : spec.split(",")) {
+                String[] parts = entry.trim().split("=");
+                int weight = Integer.parseInt(parts[1]);
+                if (weight > 0) {
+                    totalWeight += weight;
+                    operations.add(of(parts[0]));
+                    cumulativeWeights.add(totalWeight);
+                }
+            }
+            if (totalWeight == 0) {
+                throw new IllegalArgumentException("Operation mix is empty: " + spec);
+            }
+        }
+
+        Operation next(Random random) {
+            int point = random.nextInt(totalWeight);
+            for (int i = 0; i < operations.size(); i++) {
+                if (point < cumulativeWeights.get(i)) {
+                    return operations.get(i);
+                }
+            }
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns an {@link Operation} into gateway calls against the seeded data set. Booking creation is followed by the
+ * owner's approval, and the two calls are recorded separately.
+ */
+class Workload {
+    private static final String USER_ID = "X-Sharer-User-Id";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final LoadTestOptions options;
+
+    Workload(HttpClient client, LoadTestOptions options) {
+        this.client = client;
+        this.baseUrl = options.gatewayUrl();
+        this.options = options;
+    }
+
+    void execute(Operation operation, Random random, LatencyRecorder recorder) throws InterruptedException {
+        long userId = random.nextInt(options.users()) + 1;
+        switch (operation) {
+            case SEARCH:
+                String tool = DataSeeder.TOOLS[random.nextInt(DataSeeder.TOOLS.length)];
+                String text = tool + "%20" + (random.nextInt(9) + 1);
+                send("search", get("/items/search?text=" + text + "&from=0&size=20", userId), recorder);
+                break;
+            case ITEM_DETAIL:
+                send("itemDetail", get("/items/" + randomItem(random), userId), recorder);
+                break;
+            case OWNER_ITEMS:
+                send("ownerItems", get("/items?from=0&size=20", userId), recorder);
+                break;
+            case OWNER_BOOKINGS:
+                send("ownerBookings", get("/bookings/owner?state=ALL&from=0&size=20", userId), recorder);
+                break;
+            case REQUEST_FEED:
+                send("requestFeed", get("/requests/all?from=0&size=20", userId), recorder);
+                break;
+            case BOOKING:
+                book(random, userId, recorder);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported operation: " + operation);
+        }
+    }
+
+    private void book(Random random, long bookerId, LatencyRecorder recorder) throws InterruptedException {
+        long itemId = randomItem(random);
+        while (!DataSeeder.isAvailable(itemId)) {
+            itemId = randomItem(random);
+        }
+        long ownerId = options.ownerOf(itemId);
+        if (ownerId == bookerId) {
+            bookerId = ownerId % options.users() + 1;
+        }
+        LocalDateTime start = LocalDateTime.now().plusDays(1).plusMinutes(random.nextInt(60 * 24 * 30))
+                .truncatedTo(ChronoUnit.SECONDS);
+        String body = String.format("{\"itemId\":%d,\"start\":\"%s\",\"end\":\"%s\"}",
+                itemId, start, start.plusDays(1));
+
+        String created = send("bookingCreate", request("/bookings", bookerId)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), recorder);
+        if (created == null) {
+            return;
+        }
+        Matcher matcher = ID.matcher(created);
+        if (matcher.find()) {
+            send("bookingApprove", request("/bookings/" + matcher.group(1) + "?approved=true", ownerId)
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                    .build(), recorder);
+        }
+    }
+
+    private long randomItem(Random random) {
+        return (long) (random.nextDouble() * options.itemCount()) + 1;
+    }
+
+    private HttpRequest get(String path, long userId) {
+        return request(path, userId).GET().build();
+    }
+
+    private HttpRequest.Builder request(String path, long userId) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header(USER_ID, String.valueOf(userId));
+    }
+
+    private String send(String name, HttpRequest request, LatencyRecorder recorder) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean success = response.statusCode() < 400;
+            recorder.record(name, System.nanoTime() - start, success);
+            return success ? response.body() : null;
+        } catch (IOException e) {
+            recorder.record(name, System.nanoTime() - start, false);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package ru.practicum.shareit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import ru.practicum.shareit.metrics.SqlStatementMetricsInterceptor;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+    private final ObjectProvider<SqlStatementMetricsInterceptor> sqlStatementMetricsInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        sqlStatementMetricsInterceptor.ifAvailable(registry::addInterceptor);
+    }
+}
@@ -0,0 +1,21 @@
+package ru.practicum.shareit;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Lets the gateway talk to the server in Smile, a binary encoding of the JSON data model, by sending
+ * {@code Accept}/{@code Content-Type: application/x-jackson-smile}. The bean replaces Spring's default Smile converter,
+ * which sits after the JSON one, so clients that do not ask for Smile keep getting JSON.
+ */
+@Configuration
+public class WireFormatConfig {
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.factory(new SmileFactory()).build());
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -13,7 +14,9 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.feed.BookingFeed;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.service.ItemService;
@@ -36,6 +39,18 @@ public class BookingController {
     private final UserService userService;
     private final ItemService itemService;
     private final BookingMapper bookingMapper;
+    private final BookingFeed bookingFeed;
+
+    /**
+     * The persistence context stays open for the whole stream; the connection of the user check goes back to the pool
+     * when its transaction ends, see {@code ConnectionHandlingConfig}.
+     */
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(USER_ID) long userId) {
+        log.debug("GET request: booking events of user ID {}", userId);
+        userService.getUserById(userId);
+        return bookingFeed.subscribe(userId);
+    }
 
     @GetMapping("/{bookingId}")
     public BookingDto getById(@RequestHeader(USER_ID) long userId,
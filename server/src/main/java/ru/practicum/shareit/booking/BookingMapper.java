@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingForItemDto;
+import ru.practicum.shareit.booking.summary.BookingSnapshot;
 import ru.practicum.shareit.item.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.User;
@@ -36,16 +37,16 @@ public class BookingMapper {
                 .build();
     }
 
-    public BookingForItemDto toDtoForItem(Booking booking) {
+    public BookingForItemDto toDtoForItem(long itemId, BookingSnapshot booking) {
         if (booking == null) {
             return null;
         }
         return BookingForItemDto.builder()
-                .id(booking.getId())
+                .id(booking.getBookingId())
                 .start(booking.getStart())
                 .end(booking.getEnd())
-                .itemId(booking.getItem().getId())
-                .bookerId(booking.getBooker().getId())
+                .itemId(itemId)
+                .bookerId(booking.getBookerId())
                 .build();
     }
 }
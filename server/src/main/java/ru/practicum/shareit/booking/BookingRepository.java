@@ -2,12 +2,22 @@ package ru.practicum.shareit.booking;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 
+import javax.persistence.LockModeType;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Optional;
 
 public interface BookingRepository extends JpaRepository<Booking, Long>, JpaSpecificationExecutor<Booking> {
+    /**
+     * Loads a booking with {@code select ... for update}, so concurrent status changes of the same booking are applied
+     * one after another and each one sees the status left by the previous.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Booking b where b.id = :bookingId")
+    Optional<Booking> findByIdForUpdate(long bookingId);
+
     @Query(value = "select * from bookings " +
             "where item_id = :itemId and start_time < current_timestamp and status != 'REJECTED' " +
             "order by start_time desc limit 1", nativeQuery = true)
@@ -18,6 +28,6 @@ public interface BookingRepository extends JpaRepository<Booking, Long>, JpaSpec
             "order by start_time limit 1", nativeQuery = true)
     Booking findNextItemBooking(long itemId);
 
-    List<Booking> findAllByItemIdAndBookerIdAndStatusAndEndBefore(
+    boolean existsByItemIdAndBookerIdAndStatusAndEndBefore(
             long itemId, long bookerId, BookingStatus status, LocalDateTime endTime);
 }
@@ -10,7 +10,11 @@ public enum BookingState {
     ALL((r, q, cb) -> cb.isTrue(cb.literal(true))),
     CURRENT((r, q, cb) -> cb.between(
             cb.literal(LocalDateTime.now()), r.<LocalDateTime>get("start"), r.<LocalDateTime>get("end"))),
-    PAST((r, q, cb) -> cb.lessThan(r.<LocalDateTime>get("end"), LocalDateTime.now())),
+    // start < end, so the start bound changes nothing but lets a start_time partitioned table skip future partitions
+    PAST((r, q, cb) -> {
+        LocalDateTime now = LocalDateTime.now();
+        return cb.and(cb.lessThan(r.<LocalDateTime>get("start"), now), cb.lessThan(r.<LocalDateTime>get("end"), now));
+    }),
     FUTURE((r, q, cb) -> cb.greaterThan(r.<LocalDateTime>get("start"), LocalDateTime.now())),
     WAITING((r, q, cb) -> cb.equal(r.<BookingStatus>get("status"), BookingStatus.WAITING)),
     REJECTED((r, q, cb) -> cb.equal(r.<BookingStatus>get("status"), BookingStatus.REJECTED));
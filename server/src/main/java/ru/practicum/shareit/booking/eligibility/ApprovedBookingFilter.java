@@ -0,0 +1,93 @@
+package ru.practicum.shareit.booking.eligibility;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.event.BookingEvent;
+import ru.practicum.shareit.booking.event.BookingEventListener;
+
+import java.util.List;
+
+/**
+ * Item and booker pairs with at least one approved booking, kept in memory so that comments of users who never had
+ * the item approved are rejected without a query. A negative answer is definite; a positive one still has to be
+ * checked against {@code bookings}, as the booking may not have ended yet or the answer may be a false positive.
+ * Approvals are added when their booking event is delivered, normally right after the approving transaction commits.
+ * <p>
+ * Until the first build, or when switched off, every pair is reported as possible.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ApprovedBookingFilter implements BookingEventListener {
+    private final JdbcTemplate jdbcTemplate;
+    private final ApprovedBookingFilterProperties properties;
+
+    private volatile PairBloomFilter filter;
+
+    /**
+     * The filter being rebuilt; approvals committed after its query started are added here as well.
+     */
+    private volatile PairBloomFilter building;
+
+    public boolean mightHaveApprovedBooking(long itemId, long bookerId) {
+        PairBloomFilter current = filter;
+        return current == null || current.mightContain(itemId, bookerId);
+    }
+
+    /**
+     * Adds the pairs of approved bookings. Events arrive after the approving transaction has committed, so a rebuild
+     * that misses the pair in its query always sees it here.
+     */
+    @Override
+    public void onBookingEvents(List<BookingEvent> events) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (BookingEvent event : events) {
+            if (event.getStatus() == BookingStatus.APPROVED) {
+                add(event.getItemId(), event.getBookerId());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.bookings.approved-filter.rebuild-interval:600000}")
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        PairBloomFilter rebuilt = new PairBloomFilter(properties.getExpectedPairs(), properties.getFalsePositiveRate());
+        building = rebuilt;
+        try {
+            long[] pairs = {0};
+            jdbcTemplate.query("select distinct item_id, booker_id from bookings where status = ?", rs -> {
+                rebuilt.put(rs.getLong(1), rs.getLong(2));
+                pairs[0]++;
+            }, BookingStatus.APPROVED.name());
+            filter = rebuilt;
+
+            if (pairs[0] > properties.getExpectedPairs()) {
+                log.warn("Approved booking filter holds {} pairs but is sized for {}, raise "
+                        + "shareit.bookings.approved-filter.expected-pairs", pairs[0], properties.getExpectedPairs());
+            }
+        } catch (DataAccessException e) {
+            log.error("Approved booking filter is not rebuilt, will retry on the next run", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    private void add(long itemId, long bookerId) {
+        // building first: once it is cleared, filter already points to the rebuilt one
+        PairBloomFilter next = building;
+        if (next != null) {
+            next.put(itemId, bookerId);
+        }
+        PairBloomFilter current = filter;
+        if (current != null) {
+            current.put(itemId, bookerId);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.booking.eligibility;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ApprovedBookingFilterProperties.class)
+public class ApprovedBookingFilterConfig {
+    @Bean
+    public ApprovedBookingFilter approvedBookingFilter(JdbcTemplate jdbcTemplate,
+                                                       ApprovedBookingFilterProperties properties) {
+        return new ApprovedBookingFilter(jdbcTemplate, properties);
+    }
+}
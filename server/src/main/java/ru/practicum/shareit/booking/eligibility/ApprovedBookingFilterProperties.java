@@ -0,0 +1,28 @@
+package ru.practicum.shareit.booking.eligibility;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("shareit.bookings.approved-filter")
+public class ApprovedBookingFilterProperties {
+    /**
+     * Reject comments of users without an approved booking of the item before querying {@code bookings}. Approvals
+     * made by other server instances or written to the database directly are seen only after the next rebuild, so
+     * enable it only when a single instance writes bookings.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Item and booker pairs the filter is sized for; more pairs raise the share of comments that still query
+     * {@code bookings}.
+     */
+    private long expectedPairs = 1_000_000;
+
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * How often the filter is rebuilt from {@code bookings}, in milliseconds.
+     */
+    private long rebuildInterval = 600000;
+}
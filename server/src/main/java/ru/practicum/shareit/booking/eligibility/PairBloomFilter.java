@@ -0,0 +1,55 @@
+package ru.practicum.shareit.booking.eligibility;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of {@code long} pairs; safe for concurrent use without locking.
+ */
+class PairBloomFilter {
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+
+    PairBloomFilter(long expectedPairs, double falsePositiveRate) {
+        long n = Math.max(1, expectedPairs);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        words = new AtomicLongArray((int) Math.min(Integer.MAX_VALUE, (m + 63) / 64));
+        bits = words.length() * 64L;
+        hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+    }
+
+    void put(long first, long second) {
+        long hash1 = mix(mix(first) + second);
+        long hash2 = mix(hash1 + 0x9e3779b97f4a7c15L);
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bits);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long value;
+            do {
+                value = words.get(word);
+            } while ((value & mask) == 0 && !words.compareAndSet(word, value, value | mask));
+        }
+    }
+
+    boolean mightContain(long first, long second) {
+        long hash1 = mix(mix(first) + second);
+        long hash2 = mix(hash1 + 0x9e3779b97f4a7c15L);
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.booking.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.practicum.shareit.booking.BookingStatus;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * A change of a booking, written in the transaction that made it and deleted once every
+ * {@link BookingEventListener} has handled it.
+ */
+@Entity
+@Table(name = "booking_events")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BookingEventType type;
+
+    @Column(name = "booking_id", nullable = false)
+    private long bookingId;
+
+    @Column(name = "item_id", nullable = false)
+    private long itemId;
+
+    @Column(name = "booker_id", nullable = false)
+    private long bookerId;
+
+    @Column(name = "owner_id", nullable = false)
+    private long ownerId;
+
+    /**
+     * Status of the booking after the change.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BookingStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime created;
+
+    /**
+     * Listeners that have handled the event, counted in the order the dispatcher calls them.
+     */
+    @Column(nullable = false)
+    private int delivered;
+
+    /**
+     * Failed deliveries so far.
+     */
+    @Column(nullable = false)
+    private int attempts;
+}
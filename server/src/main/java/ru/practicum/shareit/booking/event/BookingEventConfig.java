@@ -0,0 +1,24 @@
+package ru.practicum.shareit.booking.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.stream.Collectors;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(BookingEventProperties.class)
+public class BookingEventConfig {
+    @Bean
+    public BookingEventDispatcher bookingEventDispatcher(BookingEventRepository eventRepository,
+                                                         ObjectProvider<BookingEventListener> listeners,
+                                                         BookingEventProperties properties,
+                                                         MeterRegistry meterRegistry) {
+        return new BookingEventDispatcher(eventRepository, listeners.orderedStream().collect(Collectors.toList()),
+                properties, meterRegistry);
+    }
+}
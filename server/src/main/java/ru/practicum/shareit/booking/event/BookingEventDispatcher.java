@@ -0,0 +1,163 @@
+package ru.practicum.shareit.booking.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers booking events to the {@link BookingEventListener}s on a single thread, in batches of up to
+ * {@code batch-size} events, and deletes them from {@code booking_events} once every listener has handled them.
+ * <p>
+ * Events reach the thread through a bounded queue right after their transaction commits. Events that did not fit into
+ * the queue, failed in a listener or were left behind by a stopped instance are picked up by {@link #sweep()} once
+ * they are older than {@code sweep-delay}.
+ * <p>
+ * Listeners are called in their {@link org.springframework.core.annotation.Order} and each event keeps the number of
+ * listeners that have handled it, so an event that failed in one listener is retried from that listener on and is not
+ * handed again to the ones before it.
+ */
+@Slf4j
+public class BookingEventDispatcher implements InitializingBean, DisposableBean {
+    private final BookingEventRepository eventRepository;
+    private final List<BookingEventListener> listeners;
+    private final BookingEventProperties properties;
+    private final BlockingQueue<BookingEvent> queue;
+    private final Counter overflowed;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public BookingEventDispatcher(BookingEventRepository eventRepository, List<BookingEventListener> listeners,
+                                  BookingEventProperties properties, MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.listeners = listeners;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        meterRegistry.gaugeCollectionSize("shareit.bookings.events.queue", Tags.empty(), queue);
+        this.overflowed = meterRegistry.counter("shareit.bookings.events.overflowed");
+        this.failed = meterRegistry.counter("shareit.bookings.events.failed");
+    }
+
+    public void dispatchAfterCommit(BookingEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(event);
+                }
+            });
+        } else {
+            enqueue(event);
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        worker = new Thread(this::run, "booking-events");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.bookings.events.sweep-interval:30000}",
+            initialDelayString = "${shareit.bookings.events.sweep-interval:30000}")
+    public void sweep() {
+        List<BookingEvent> events;
+        do {
+            try {
+                events = eventRepository.findAllByCreatedBeforeAndAttemptsLessThanOrderById(
+                        LocalDateTime.now().minus(properties.getSweepDelay()), properties.getMaxAttempts(),
+                        PageRequest.of(0, properties.getBatchSize()));
+            } catch (DataAccessException e) {
+                log.error("Booking events are not swept, will retry on the next run", e);
+                return;
+            }
+            if (!events.isEmpty() && !deliver(events)) {
+                return;
+            }
+        } while (events.size() == properties.getBatchSize());
+    }
+
+    boolean deliver(List<BookingEvent> events) {
+        for (int i = 0; i < listeners.size(); i++) {
+            int index = i;
+            List<BookingEvent> pending = events.stream()
+                    .filter(event -> event.getDelivered() <= index)
+                    .collect(Collectors.toList());
+            if (pending.isEmpty()) {
+                continue;
+            }
+            BookingEventListener listener = listeners.get(index);
+            try {
+                listener.onBookingEvents(pending);
+            } catch (RuntimeException e) {
+                List<Long> ids = pending.stream().map(BookingEvent::getId).collect(Collectors.toList());
+                log.error("Booking events {} failed in {}, will retry on the next sweep", ids,
+                        listener.getClass().getSimpleName(), e);
+                failed.increment(pending.size());
+                try {
+                    eventRepository.recordFailure(ids, index);
+                } catch (DataAccessException ex) {
+                    log.error("Failed delivery of booking events {} is not recorded", ids, ex);
+                }
+                return false;
+            }
+        }
+        List<Long> ids = events.stream().map(BookingEvent::getId).collect(Collectors.toList());
+        try {
+            eventRepository.deleteAllByIdInBatch(ids);
+        } catch (DataAccessException e) {
+            log.error("Delivered booking events {} are not deleted and will be delivered again", ids, e);
+            return false;
+        }
+        return true;
+    }
+
+    private void enqueue(BookingEvent event) {
+        if (!queue.offer(event)) {
+            overflowed.increment();
+        }
+    }
+
+    private void run() {
+        List<BookingEvent> batch = new ArrayList<>(properties.getBatchSize());
+        while (running) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Booking events {} are not delivered, will retry on the next sweep", batch, e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.booking.event;
+
+import java.util.List;
+
+/**
+ * Handles booking events off the request thread, after the transaction that produced them has committed. Events that
+ * fail in a listener are retried from that listener on, possibly by another server instance and after later events,
+ * so handling must not rely on the order of batches. Delivery is still at least once: an instance that stops between
+ * a listener call and the bookkeeping after it hands the same events to that listener again.
+ */
+public interface BookingEventListener {
+    void onBookingEvents(List<BookingEvent> events);
+}
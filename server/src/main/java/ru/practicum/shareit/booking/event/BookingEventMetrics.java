@@ -0,0 +1,25 @@
+package ru.practicum.shareit.booking.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Counts booking changes by event type and resulting status.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingEventMetrics implements BookingEventListener {
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void onBookingEvents(List<BookingEvent> events) {
+        for (BookingEvent event : events) {
+            meterRegistry.counter("shareit.bookings.events",
+                    "type", event.getType().name(),
+                    "status", event.getStatus().name()).increment();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package ru.practicum.shareit.booking.event;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("shareit.bookings.events")
+public class BookingEventProperties {
+    /**
+     * Committed events waiting for the dispatcher thread; events that do not fit stay in {@code booking_events} until
+     * the next sweep.
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * Events handed to the listeners at once.
+     */
+    private int batchSize = 100;
+
+    /**
+     * How often {@code booking_events} is swept for undelivered events, in milliseconds.
+     */
+    private long sweepInterval = 30000;
+
+    /**
+     * Age after which an event still in {@code booking_events} is considered lost by the dispatcher and delivered by
+     * the sweep.
+     */
+    private Duration sweepDelay = Duration.ofMinutes(1);
+
+    /**
+     * Failed deliveries after which an event is left in {@code booking_events} for inspection.
+     */
+    private int maxAttempts = 10;
+}
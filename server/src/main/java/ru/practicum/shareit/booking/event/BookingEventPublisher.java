@@ -0,0 +1,33 @@
+package ru.practicum.shareit.booking.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.Booking;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class BookingEventPublisher {
+    private final BookingEventRepository eventRepository;
+    private final BookingEventDispatcher dispatcher;
+
+    /**
+     * Writes the event in the caller's transaction and hands it to the dispatcher once the transaction commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(Booking booking, BookingEventType type) {
+        BookingEvent event = eventRepository.save(BookingEvent.builder()
+                .type(type)
+                .bookingId(booking.getId())
+                .itemId(booking.getItem().getId())
+                .bookerId(booking.getBooker().getId())
+                .ownerId(booking.getItem().getOwnerId())
+                .status(booking.getStatus())
+                .created(LocalDateTime.now())
+                .build());
+        dispatcher.dispatchAfterCommit(event);
+    }
+}
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.booking.event;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface BookingEventRepository extends JpaRepository<BookingEvent, Long> {
+    List<BookingEvent> findAllByCreatedBeforeAndAttemptsLessThanOrderById(LocalDateTime created, int attempts,
+                                                                          Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update BookingEvent e set e.attempts = e.attempts + 1, e.delivered = :delivered where e.id in :ids")
+    void recordFailure(Collection<Long> ids, int delivered);
+}
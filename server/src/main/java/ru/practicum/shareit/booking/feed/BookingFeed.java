@@ -0,0 +1,171 @@
+package ru.practicum.shareit.booking.feed;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans booking events out to the open subscriptions of their booker and of the owner of their item. Publishing only
+ * puts the event into the bounded buffer of each subscriber; a pool of sender threads writes the buffers out, so a
+ * slow client never holds up the publisher or other subscribers.
+ */
+@Slf4j
+public class BookingFeed implements DisposableBean {
+    static final String EVENT_NAME = "booking";
+
+    private final BookingFeedProperties properties;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService senders;
+    private final Counter overflowed;
+
+    public BookingFeed(BookingFeedProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        AtomicInteger threads = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(properties.getSenderThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "booking-feed-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        meterRegistry.gaugeMapSize("shareit.bookings.feed.users", Tags.empty(), subscribers);
+        this.overflowed = meterRegistry.counter("shareit.bookings.feed.overflowed");
+    }
+
+    /**
+     * Opens the stream with a comment line, so the response is committed and the client knows it is subscribed before
+     * the first event.
+     */
+    public SseEmitter subscribe(long userId) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        try {
+            emitter.send(SseEmitter.event().comment("subscribed"));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        subscribers.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        return emitter;
+    }
+
+    public void publish(BookingFeedEvent event) {
+        offer(event.getBookerId(), event);
+        offer(event.getOwnerId(), event);
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.bookings.feed.heartbeat-interval:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(
+                subscriber -> senders.execute(subscriber::heartbeat)));
+    }
+
+    @Override
+    public void destroy() {
+        senders.shutdownNow();
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(s -> s.emitter.complete()));
+    }
+
+    int countSubscribers(long userId) {
+        return subscribers.getOrDefault(userId, Set.of()).size();
+    }
+
+    private void offer(long userId, BookingFeedEvent event) {
+        Set<Subscriber> userSubscribers = subscribers.get(userId);
+        if (userSubscribers != null) {
+            userSubscribers.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    private class Subscriber {
+        private final long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<BookingFeedEvent> buffer = new ArrayBlockingQueue<>(properties.getBufferSize());
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile boolean active = true;
+
+        Subscriber(long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void offer(BookingFeedEvent event) {
+            if (!active) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                overflowed.increment();
+                log.debug("Booking feed subscriber of user ID {} fell behind and is disconnected", userId);
+                close();
+                return;
+            }
+            schedule();
+        }
+
+        void heartbeat() {
+            if (active && buffer.isEmpty() && !sending.get()) {
+                try {
+                    emitter.send(SseEmitter.event().comment(""));
+                } catch (IOException | IllegalStateException e) {
+                    close();
+                }
+            }
+        }
+
+        private void schedule() {
+            if (sending.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                BookingFeedEvent event;
+                while (active && (event = buffer.poll()) != null) {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(event.getId()))
+                            .name(EVENT_NAME)
+                            .data(event, MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            } finally {
+                sending.set(false);
+            }
+            // an event offered after the last poll but before the flag was cleared
+            if (active && !buffer.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void close() {
+            active = false;
+            remove(this);
+            emitter.complete();
+        }
+    }
+}
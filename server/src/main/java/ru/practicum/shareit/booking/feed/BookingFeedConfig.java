@@ -0,0 +1,35 @@
+package ru.practicum.shareit.booking.feed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(BookingFeedProperties.class)
+public class BookingFeedConfig {
+    @Bean
+    public BookingFeed bookingFeed(BookingFeedProperties properties, MeterRegistry meterRegistry) {
+        return new BookingFeed(properties, meterRegistry);
+    }
+
+    @Bean
+    public BookingFeedPublisher bookingFeedPublisher(BookingFeed feed, BookingFeedProperties properties,
+                                                     JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        return new BookingFeedPublisher(feed, properties, jdbcTemplate, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "shareit.bookings.feed", name = "notify", havingValue = "true")
+    public BookingFeedNotificationListener bookingFeedNotificationListener(BookingFeed feed,
+                                                                           DataSourceProperties dataSourceProperties,
+                                                                           ObjectMapper objectMapper) {
+        return new BookingFeedNotificationListener(feed, dataSourceProperties, objectMapper);
+    }
+}
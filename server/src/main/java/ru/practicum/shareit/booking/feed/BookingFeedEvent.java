@@ -0,0 +1,29 @@
+package ru.practicum.shareit.booking.feed;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.event.BookingEvent;
+import ru.practicum.shareit.booking.event.BookingEventType;
+
+/**
+ * A booking change as streamed to its booker and to the owner of its item.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingFeedEvent {
+    private long id;
+    private BookingEventType type;
+    private long bookingId;
+    private long itemId;
+    private long bookerId;
+    private long ownerId;
+    private BookingStatus status;
+
+    public static BookingFeedEvent of(BookingEvent event) {
+        return new BookingFeedEvent(event.getId(), event.getType(), event.getBookingId(), event.getItemId(),
+                event.getBookerId(), event.getOwnerId(), event.getStatus());
+    }
+}
@@ -0,0 +1,90 @@
+package ru.practicum.shareit.booking.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listens on the {@value BookingFeedPublisher#CHANNEL} channel over a connection of its own, outside of the pool, and
+ * publishes the received events to the {@link BookingFeed} of this instance. Events notified while the connection is
+ * being re-established are lost; subscribers reload their bookings on reconnect.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BookingFeedNotificationListener implements InitializingBean, DisposableBean {
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final long RECONNECT_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final BookingFeed feed;
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectMapper objectMapper;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        worker = new Thread(this::run, "booking-feed-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("listen " + BookingFeedPublisher.CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            publish(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.error("Booking feed lost its notification connection, reconnecting", e);
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void publish(String payload) {
+        try {
+            feed.publish(objectMapper.readValue(payload, BookingFeedEvent.class));
+        } catch (JsonProcessingException e) {
+            log.error("Booking feed notification {} is not readable", payload, e);
+        }
+    }
+}
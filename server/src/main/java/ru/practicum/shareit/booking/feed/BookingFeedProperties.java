@@ -0,0 +1,38 @@
+package ru.practicum.shareit.booking.feed;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("shareit.bookings.feed")
+public class BookingFeedProperties {
+    /**
+     * Events waiting to be sent to one subscriber; a subscriber that falls this far behind is disconnected and has to
+     * reconnect and reload its bookings.
+     */
+    private int bufferSize = 64;
+
+    /**
+     * Subscriptions end after this time; clients reconnect.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /**
+     * How often idle subscriptions get a comment line, so proxies keep them open and dead clients are noticed, in
+     * milliseconds.
+     */
+    private long heartbeatInterval = 15000;
+
+    /**
+     * Threads writing events to subscribers.
+     */
+    private int senderThreads = 4;
+
+    /**
+     * Relay events through PostgreSQL {@code NOTIFY}, so subscribers of every server instance receive them; without
+     * it only events written through the same instance are streamed.
+     */
+    private boolean notify = false;
+}
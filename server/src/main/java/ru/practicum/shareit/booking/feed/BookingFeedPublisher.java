@@ -0,0 +1,45 @@
+package ru.practicum.shareit.booking.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.event.BookingEvent;
+import ru.practicum.shareit.booking.event.BookingEventListener;
+
+import java.util.List;
+
+/**
+ * Passes committed booking events to the {@link BookingFeed} of this instance or, with {@code notify} on, to
+ * {@link BookingFeedNotificationListener}s of all instances through PostgreSQL {@code NOTIFY}.
+ */
+@RequiredArgsConstructor
+public class BookingFeedPublisher implements BookingEventListener {
+    static final String CHANNEL = "booking_feed";
+
+    private final BookingFeed feed;
+    private final BookingFeedProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onBookingEvents(List<BookingEvent> events) {
+        for (BookingEvent event : events) {
+            BookingFeedEvent feedEvent = BookingFeedEvent.of(event);
+            if (properties.isNotify()) {
+                jdbcTemplate.query("select pg_notify(?, ?)", rs -> {
+                }, CHANNEL, toJson(feedEvent));
+            } else {
+                feed.publish(feedEvent);
+            }
+        }
+    }
+
+    private String toJson(BookingFeedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package ru.practicum.shareit.booking.partition;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@ConditionalOnProperty(prefix = "shareit.bookings.partitioning", name = "enabled", havingValue = "true")
+@EnableScheduling
+@EnableConfigurationProperties(BookingPartitionProperties.class)
+public class BookingPartitionConfig {
+    @Bean
+    public BookingPartitionMaintenance bookingPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                                                   TransactionTemplate transactionTemplate,
+                                                                   BookingPartitionProperties properties) {
+        return new BookingPartitionMaintenance(jdbcTemplate, transactionTemplate, properties);
+    }
+}
@@ -0,0 +1,137 @@
+package ru.practicum.shareit.booking.partition;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps {@code bookings} partitioned by month of {@code start_time}:
+ * <ul>
+ *     <li>{@code bookings_archive} — itself partitioned, holds everything older than the retention window: its
+ *     {@code bookings_archive_base} partition plus every monthly partition moved there;</li>
+ *     <li>{@code bookings_yYYYYmMM} — one partition per month of the retention window and the months ahead;</li>
+ *     <li>{@code bookings_overflow} — everything after the last monthly partition.</li>
+ * </ul>
+ * Archived rows stay part of {@code bookings}, so {@code PAST} and {@code ALL} listings still return them, while
+ * queries bounded by {@code start_time} skip the archive. Every partition carries a {@code CHECK} constraint matching
+ * its bounds, so moving it into the archive and re-attaching the archive never scans the archived rows.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BookingPartitionMaintenance implements InitializingBean {
+    private static final String ARCHIVE = "bookings_archive";
+    private static final String ARCHIVE_BASE = "bookings_archive_base";
+    private static final String OVERFLOW = "bookings_overflow";
+    private static final DateTimeFormatter MONTH_PARTITION = DateTimeFormatter.ofPattern("'bookings_y'uuuu'm'MM");
+    private static final long ADVISORY_LOCK_KEY = 0x5348415245L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingPartitionProperties properties;
+
+    /**
+     * Bookings are routed to the overflow partition until the first run, so the layout is set up before requests
+     * come in.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${shareit.bookings.partitioning.cron:0 30 3 * * *}")
+    public void maintain() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                        "select pg_try_advisory_xact_lock(?)", Boolean.class, ADVISORY_LOCK_KEY))) {
+                    log.info("Booking partitions are being maintained by another instance");
+                    return;
+                }
+                jdbcTemplate.execute("set local lock_timeout = " + properties.getLockTimeout().toMillis());
+                apply(plan());
+            });
+        } catch (DataAccessException e) {
+            log.error("Booking partition maintenance failed, will retry on the next run", e);
+        }
+    }
+
+    private BookingPartitionPlan plan() {
+        List<String> partitions = jdbcTemplate.queryForList("select c.relname from pg_inherits i "
+                + "join pg_class c on c.oid = i.inhrelid where i.inhparent = 'bookings'::regclass", String.class);
+        List<YearMonth> months = new ArrayList<>();
+        for (String partition : partitions) {
+            try {
+                months.add(YearMonth.parse(partition, MONTH_PARTITION));
+            } catch (DateTimeParseException e) {
+                // the archive or the overflow partition
+            }
+        }
+        return BookingPartitionPlan.of(YearMonth.now(), months, partitions.contains(ARCHIVE),
+                properties.getRetentionMonths(), properties.getMonthsAhead());
+    }
+
+    private void apply(BookingPartitionPlan plan) {
+        if (plan.isEmpty()) {
+            return;
+        }
+        log.info("Maintaining booking partitions: {}", plan);
+
+        if (!plan.getMonthsToCreate().isEmpty()) {
+            execute("alter table bookings detach partition %s", OVERFLOW);
+            if (plan.getArchiveUntil() != null) {
+                execute("create table %s partition of bookings for values from (minvalue) to (%s) "
+                        + "partition by range (start_time)", ARCHIVE, bound(plan.getArchiveUntil()));
+                execute("create table %s partition of %s for values from (minvalue) to (%s)",
+                        ARCHIVE_BASE, ARCHIVE, bound(plan.getArchiveUntil()));
+                execute("alter table %1$s add constraint %1$s_bounds check (start_time < %2$s)",
+                        ARCHIVE_BASE, bound(plan.getArchiveUntil()));
+            }
+            for (YearMonth month : plan.getMonthsToCreate()) {
+                execute("create table %s partition of bookings for values from (%s) to (%s)",
+                        partition(month), bound(month), bound(month.plusMonths(1)));
+                execute("alter table %1$s add constraint %1$s_bounds "
+                                + "check (start_time >= %2$s and start_time < %3$s)",
+                        partition(month), bound(month), bound(month.plusMonths(1)));
+            }
+            execute("insert into bookings select * from %s where start_time < %s",
+                    OVERFLOW, bound(plan.getOverflowFrom()));
+            execute("delete from %s where start_time < %s", OVERFLOW, bound(plan.getOverflowFrom()));
+            execute("alter table bookings attach partition %s for values from (%s) to (maxvalue)",
+                    OVERFLOW, bound(plan.getOverflowFrom()));
+        }
+
+        if (!plan.getMonthsToArchive().isEmpty()) {
+            YearMonth lastArchived = plan.getMonthsToArchive().get(plan.getMonthsToArchive().size() - 1);
+            execute("alter table bookings detach partition %s", ARCHIVE);
+            for (YearMonth month : plan.getMonthsToArchive()) {
+                execute("alter table bookings detach partition %s", partition(month));
+                execute("alter table %s attach partition %s for values from (%s) to (%s)",
+                        ARCHIVE, partition(month), bound(month), bound(month.plusMonths(1)));
+            }
+            execute("alter table bookings attach partition %s for values from (minvalue) to (%s)",
+                    ARCHIVE, bound(lastArchived.plusMonths(1)));
+        }
+    }
+
+    private void execute(String sql, Object... args) {
+        jdbcTemplate.execute(String.format(sql, args));
+    }
+
+    private static String partition(YearMonth month) {
+        return MONTH_PARTITION.format(month);
+    }
+
+    private static String bound(YearMonth month) {
+        return "'" + month.atDay(1) + "'";
+    }
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.booking.partition;
+
+import lombok.Value;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * What one maintenance run does to the partitions of {@code bookings}:
+ * <ol>
+ *     <li>on the first run, create the archive covering everything before the retention window;</li>
+ *     <li>create monthly partitions up to {@link #overflowFrom}, moving their rows out of the overflow partition;</li>
+ *     <li>move monthly partitions that fell out of the retention window into the archive.</li>
+ * </ol>
+ */
+@Value
+public class BookingPartitionPlan {
+    /**
+     * Upper bound of the archive when it is created by this run, otherwise {@code null}.
+     */
+    YearMonth archiveUntil;
+
+    List<YearMonth> monthsToCreate;
+
+    /**
+     * Lower bound of the overflow partition once {@link #monthsToCreate} exist.
+     */
+    YearMonth overflowFrom;
+
+    List<YearMonth> monthsToArchive;
+
+    public static BookingPartitionPlan of(YearMonth current, Collection<YearMonth> monthlyPartitions,
+                                          boolean archiveExists, int retentionMonths, int monthsAhead) {
+        YearMonth retainedFrom = current.minusMonths(retentionMonths);
+        YearMonth overflowFrom = current.plusMonths(monthsAhead + 1L);
+        TreeSet<YearMonth> months = new TreeSet<>(monthlyPartitions);
+
+        if (!archiveExists) {
+            if (!months.isEmpty()) {
+                throw new IllegalStateException("Monthly booking partitions exist without the archive: " + months);
+            }
+            return new BookingPartitionPlan(retainedFrom, monthsBetween(retainedFrom, overflowFrom), overflowFrom,
+                    Collections.emptyList());
+        }
+        if (months.isEmpty()) {
+            throw new IllegalStateException("The booking archive exists without monthly partitions");
+        }
+
+        List<YearMonth> monthsToCreate = monthsBetween(months.last().plusMonths(1), overflowFrom);
+        months.addAll(monthsToCreate);
+        List<YearMonth> monthsToArchive = new ArrayList<>(months.headSet(retainedFrom));
+        return new BookingPartitionPlan(null, monthsToCreate, overflowFrom, monthsToArchive);
+    }
+
+    public boolean isEmpty() {
+        return archiveUntil == null && monthsToCreate.isEmpty() && monthsToArchive.isEmpty();
+    }
+
+    private static List<YearMonth> monthsBetween(YearMonth fromInclusive, YearMonth toExclusive) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = fromInclusive; month.isBefore(toExclusive); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+}
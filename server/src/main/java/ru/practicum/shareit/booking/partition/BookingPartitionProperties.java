@@ -0,0 +1,36 @@
+package ru.practicum.shareit.booking.partition;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("shareit.bookings.partitioning")
+public class BookingPartitionProperties {
+    /**
+     * Manage monthly partitions of {@code bookings}; requires the PostgreSQL schema, see the {@code postgres} profile.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Full months before the current one that keep their own partition; older months are moved to the archive.
+     */
+    private int retentionMonths = 12;
+
+    /**
+     * Months after the current one that get a partition in advance.
+     */
+    private int monthsAhead = 3;
+
+    /**
+     * Maintenance runs once at startup and then on this schedule.
+     */
+    private String cron = "0 30 3 * * *";
+
+    /**
+     * Detaching and attaching partitions locks {@code bookings}; give up rather than queue all requests behind a long
+     * query.
+     */
+    private Duration lockTimeout = Duration.ofSeconds(5);
+}
@@ -15,8 +15,4 @@ public interface BookingService {
     List<Booking> getBookingsByBookerId(long bookerId, String stateName, Pageable pageable);
 
     List<Booking> getBookingsByOwnerId(long ownerId, String stateName, Pageable pageable);
-
-    Booking getLastItemBooking(long itemId);
-
-    Booking getNextItemBooking(long itemId);
 }
@@ -1,25 +1,37 @@
 package ru.practicum.shareit.booking.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.BookingStatus;
 import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.booking.event.BookingEventPublisher;
+import ru.practicum.shareit.booking.event.BookingEventType;
+import ru.practicum.shareit.booking.summary.ItemBookingSummaryService;
 import ru.practicum.shareit.exception.ForbiddenException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.outbox.ChangeEventPublisher;
+import ru.practicum.shareit.outbox.ChangeEventType;
 import ru.practicum.shareit.user.UserRepository;
 
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "shareit.service", histogram = true)
+@Transactional(readOnly = true)
 public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
+    private final ItemBookingSummaryService itemBookingSummaryService;
+    private final BookingEventPublisher bookingEventPublisher;
+    private final ChangeEventPublisher changeEventPublisher;
 
     @Override
     public Booking getBookingById(long bookingId, long userId) {
@@ -32,6 +44,7 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
+    @Transactional
     public Booking addBooking(Booking booking) {
         if (booking.getBooker().getId() == booking.getItem().getOwnerId()) {
             throw new ForbiddenException(String.format("Item ID %d can't be booked by its owner ID %d",
@@ -41,12 +54,17 @@ public class BookingServiceImpl implements BookingService {
             throw new ValidationException(
                     String.format("Item ID %d is not available for booking", booking.getItem().getId()));
         }
-        return bookingRepository.save(booking);
+        Booking savedBooking = bookingRepository.save(booking);
+        itemBookingSummaryService.onBookingAdded(savedBooking);
+        bookingEventPublisher.publish(savedBooking, BookingEventType.CREATED);
+        changeEventPublisher.publish(savedBooking, ChangeEventType.CREATED);
+        return savedBooking;
     }
 
     @Override
+    @Transactional
     public Booking updateStatus(long userId, long bookingId, boolean approved) {
-        Booking bookingToUpdate = bookingRepository.findById(bookingId)
+        Booking bookingToUpdate = bookingRepository.findByIdForUpdate(bookingId)
                 .orElseThrow(() -> new NotFoundException(String.format("Booking ID %d is not found", bookingId)));
 
         if (bookingToUpdate.getStatus() != BookingStatus.WAITING) {
@@ -60,7 +78,11 @@ public class BookingServiceImpl implements BookingService {
         BookingStatus status = approved ? BookingStatus.APPROVED : BookingStatus.REJECTED;
         bookingToUpdate.setStatus(status);
 
-        return bookingRepository.save(bookingToUpdate);
+        Booking updatedBooking = bookingRepository.saveAndFlush(bookingToUpdate);
+        itemBookingSummaryService.onStatusChanged(updatedBooking);
+        bookingEventPublisher.publish(updatedBooking, BookingEventType.STATUS_CHANGED);
+        changeEventPublisher.publish(updatedBooking, ChangeEventType.UPDATED);
+        return updatedBooking;
     }
 
     @Override
@@ -94,14 +116,4 @@ public class BookingServiceImpl implements BookingService {
             throw new ValidationException(String.format("Unknown state: %s", stateName));
         }
     }
-
-    @Override
-    public Booking getLastItemBooking(long itemId) {
-        return bookingRepository.findLastItemBooking(itemId);
-    }
-
-    @Override
-    public Booking getNextItemBooking(long itemId) {
-        return bookingRepository.findNextItemBooking(itemId);
-    }
 }
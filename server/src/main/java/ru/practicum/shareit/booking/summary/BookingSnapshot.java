@@ -0,0 +1,45 @@
+package ru.practicum.shareit.booking.summary;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.practicum.shareit.booking.Booking;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.time.LocalDateTime;
+
+/**
+ * The part of a booking shown next to its item.
+ */
+@Embeddable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingSnapshot {
+    @Column(name = "booking_id")
+    private Long bookingId;
+
+    @Column(name = "start_time")
+    private LocalDateTime start;
+
+    @Column(name = "end_time")
+    private LocalDateTime end;
+
+    @Column(name = "booker_id")
+    private Long bookerId;
+
+    public static BookingSnapshot of(Booking booking) {
+        if (booking == null) {
+            return null;
+        }
+        return BookingSnapshot.builder()
+                .bookingId(booking.getId())
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .bookerId(booking.getBooker().getId())
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package ru.practicum.shareit.booking.summary;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.AttributeOverride;
+import javax.persistence.AttributeOverrides;
+import javax.persistence.Column;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+import java.time.LocalDateTime;
+
+/**
+ * Last and next booking of an item, as {@code BookingRepository.findLastItemBooking} and
+ * {@code findNextItemBooking} would return them. The row stays correct until {@link #next} starts; from then on it is
+ * {@linkplain #isRolledOver rolled over} until it is recomputed.
+ */
+@Entity
+@Table(name = "item_booking_summary")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemBookingSummary implements Persistable<Long> {
+    @Id
+    @Column(name = "item_id")
+    private long itemId;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "bookingId", column = @Column(name = "last_booking_id")),
+            @AttributeOverride(name = "start", column = @Column(name = "last_start_time")),
+            @AttributeOverride(name = "end", column = @Column(name = "last_end_time")),
+            @AttributeOverride(name = "bookerId", column = @Column(name = "last_booker_id"))
+    })
+    private BookingSnapshot last;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "bookingId", column = @Column(name = "next_booking_id")),
+            @AttributeOverride(name = "start", column = @Column(name = "next_start_time")),
+            @AttributeOverride(name = "end", column = @Column(name = "next_end_time")),
+            @AttributeOverride(name = "bookerId", column = @Column(name = "next_booker_id"))
+    })
+    private BookingSnapshot next;
+
+    /**
+     * The ID is assigned, so saving a new summary has to be told apart from updating one.
+     */
+    @Transient
+    @Builder.Default
+    private boolean isNew = true;
+
+    @Override
+    public Long getId() {
+        return itemId;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+
+    public boolean isRolledOver(LocalDateTime now) {
+        return next != null && !next.getStart().isAfter(now);
+    }
+}
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.booking.summary;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("shareit.bookings.summary")
+public class ItemBookingSummaryProperties {
+    /**
+     * How often summaries whose next booking has started are recomputed, in milliseconds. Reads recompute such
+     * summaries on the fly in the meantime.
+     */
+    private long rollForwardInterval = 60000;
+
+    /**
+     * Summaries recomputed per query for rolled over or missing summaries.
+     */
+    private int batchSize = 500;
+}
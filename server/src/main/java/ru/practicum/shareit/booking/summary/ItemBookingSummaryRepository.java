@@ -0,0 +1,28 @@
+package ru.practicum.shareit.booking.summary;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ItemBookingSummaryRepository extends JpaRepository<ItemBookingSummary, Long> {
+    /**
+     * Every change of a summary starts here, so changes of the same item are applied one after another.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ItemBookingSummary s where s.itemId = :itemId")
+    Optional<ItemBookingSummary> findByIdForUpdate(long itemId);
+
+    @Query("select s.itemId from ItemBookingSummary s where s.next.start <= :now order by s.next.start")
+    List<Long> findRolledOverItemIds(LocalDateTime now, Pageable pageable);
+
+    @Query(value = "select i.id from items i " +
+            "where not exists (select 1 from item_booking_summary s where s.item_id = i.id) " +
+            "order by i.id limit :limit", nativeQuery = true)
+    List<Long> findItemIdsWithoutSummary(int limit);
+}
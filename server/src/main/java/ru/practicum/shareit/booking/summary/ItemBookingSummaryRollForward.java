@@ -0,0 +1,43 @@
+package ru.practicum.shareit.booking.summary;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Recomputes summaries whose next booking has started and creates the missing ones.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemBookingSummaryRollForward {
+    private final ItemBookingSummaryService summaryService;
+    private final ItemBookingSummaryProperties properties;
+
+    @Scheduled(fixedDelayString = "${shareit.bookings.summary.roll-forward-interval:60000}",
+            initialDelayString = "${shareit.bookings.summary.roll-forward-interval:60000}")
+    public void rollForward() {
+        int refreshed = 0;
+        List<Long> itemIds;
+        do {
+            itemIds = summaryService.getItemIdsToRefresh(properties.getBatchSize());
+            for (long itemId : itemIds) {
+                try {
+                    summaryService.refresh(itemId);
+                    refreshed++;
+                } catch (DataAccessException e) {
+                    log.error("Booking summary of item ID {} is not refreshed, will retry on the next run", itemId, e);
+                    return;
+                }
+            }
+        } while (itemIds.size() == properties.getBatchSize());
+
+        if (refreshed > 0) {
+            log.debug("Refreshed {} item booking summaries", refreshed);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.booking.summary;
+
+import ru.practicum.shareit.booking.Booking;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ItemBookingSummaryService {
+    Map<Long, ItemBookingSummary> getSummaries(Collection<Long> itemIds);
+
+    void addSummary(long itemId);
+
+    void onBookingAdded(Booking booking);
+
+    void onStatusChanged(Booking booking);
+
+    void refresh(long itemId);
+
+    List<Long> getItemIdsToRefresh(int limit);
+}
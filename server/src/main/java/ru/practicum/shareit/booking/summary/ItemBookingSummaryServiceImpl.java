@@ -0,0 +1,134 @@
+package ru.practicum.shareit.booking.summary;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.item.ItemRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Keeps {@code item_booking_summary} in step with {@code bookings}:
+ * <ul>
+ *     <li>a new booking replaces the last or the next one if it is closer to now;</li>
+ *     <li>rejecting the last or the next booking recomputes the summary;</li>
+ *     <li>summaries whose next booking has started are recomputed by {@link ItemBookingSummaryRollForward} and, until
+ *     then, on every read.</li>
+ * </ul>
+ * Every change locks the summary row first. Summaries missing for items created outside of the service are created
+ * under a lock on the item row, which waits for transactions still adding bookings of the item, so no booking is
+ * left out; until then reads fall back to querying {@code bookings}.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed(value = "shareit.service", histogram = true)
+@Transactional(readOnly = true)
+public class ItemBookingSummaryServiceImpl implements ItemBookingSummaryService {
+    private final ItemBookingSummaryRepository summaryRepository;
+    private final BookingRepository bookingRepository;
+    private final ItemRepository itemRepository;
+
+    @Override
+    public Map<Long, ItemBookingSummary> getSummaries(Collection<Long> itemIds) {
+        Map<Long, ItemBookingSummary> summaries = new HashMap<>();
+        summaryRepository.findAllById(itemIds).forEach(summary -> summaries.put(summary.getItemId(), summary));
+
+        LocalDateTime now = LocalDateTime.now();
+        for (long itemId : itemIds) {
+            ItemBookingSummary summary = summaries.get(itemId);
+            if (summary == null || summary.isRolledOver(now)) {
+                summaries.put(itemId, compute(ItemBookingSummary.builder().itemId(itemId).build()));
+            }
+        }
+        return summaries;
+    }
+
+    @Override
+    @Transactional
+    public void addSummary(long itemId) {
+        summaryRepository.save(ItemBookingSummary.builder().itemId(itemId).build());
+    }
+
+    @Override
+    @Transactional
+    public void onBookingAdded(Booking booking) {
+        if (booking.getStatus() == BookingStatus.REJECTED) {
+            return;
+        }
+        // a missing summary is created later and sees this booking then
+        Optional<ItemBookingSummary> locked = summaryRepository.findByIdForUpdate(booking.getItem().getId());
+        if (locked.isEmpty()) {
+            return;
+        }
+
+        ItemBookingSummary summary = locked.get();
+        LocalDateTime now = LocalDateTime.now();
+        if (summary.isRolledOver(now)) {
+            compute(summary);
+        } else if (booking.getStart().isAfter(now)) {
+            if (summary.getNext() == null || booking.getStart().isBefore(summary.getNext().getStart())) {
+                summary.setNext(BookingSnapshot.of(booking));
+            }
+        } else if (summary.getLast() == null || booking.getStart().isAfter(summary.getLast().getStart())) {
+            summary.setLast(BookingSnapshot.of(booking));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void onStatusChanged(Booking booking) {
+        ItemBookingSummary summary = lockOrCreate(booking.getItem().getId());
+        if (booking.getStatus() == BookingStatus.REJECTED
+                && (isBooking(summary.getLast(), booking) || isBooking(summary.getNext(), booking))) {
+            compute(summary);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void refresh(long itemId) {
+        summaryRepository.findByIdForUpdate(itemId).ifPresentOrElse(this::compute, () -> create(itemId));
+    }
+
+    @Override
+    public List<Long> getItemIdsToRefresh(int limit) {
+        List<Long> itemIds = new ArrayList<>(
+                summaryRepository.findRolledOverItemIds(LocalDateTime.now(), PageRequest.of(0, limit)));
+        if (itemIds.size() < limit) {
+            itemIds.addAll(summaryRepository.findItemIdsWithoutSummary(limit - itemIds.size()));
+        }
+        return itemIds;
+    }
+
+    private ItemBookingSummary lockOrCreate(long itemId) {
+        return summaryRepository.findByIdForUpdate(itemId).orElseGet(() -> create(itemId));
+    }
+
+    private ItemBookingSummary create(long itemId) {
+        itemRepository.lockById(itemId);
+        return summaryRepository.findByIdForUpdate(itemId).orElseGet(() ->
+                summaryRepository.save(compute(ItemBookingSummary.builder().itemId(itemId).build())));
+    }
+
+    private ItemBookingSummary compute(ItemBookingSummary summary) {
+        summary.setLast(BookingSnapshot.of(bookingRepository.findLastItemBooking(summary.getItemId())));
+        summary.setNext(BookingSnapshot.of(bookingRepository.findNextItemBooking(summary.getItemId())));
+        return summary;
+    }
+
+    private static boolean isBooking(BookingSnapshot snapshot, Booking booking) {
+        return snapshot != null && Objects.equals(snapshot.getBookingId(), booking.getId());
+    }
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache on Caffeine through JCache. Every region is created here with its own size and
+ * expiry; Hibernate fails to start rather than create an unbounded one for a region missing below.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "shareit.cache", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(EntityCacheProperties.class)
+public class EntityCacheConfig {
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(EntityCacheProperties properties) {
+        // A URI of its own, so that several application contexts in one JVM do not share entries.
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("shareit-entities-" + UUID.randomUUID()), getClass().getClassLoader());
+        createCache(cacheManager, EntityCacheRegions.USERS, properties.getUsers());
+        createCache(cacheManager, EntityCacheRegions.ITEMS, properties.getItems());
+        createCache(cacheManager, EntityCacheRegions.REQUESTS, properties.getRequests());
+        createCache(cacheManager, EntityCacheRegions.ITEMS_BY_OWNER, properties.getItemQueries());
+        createCache(cacheManager, EntityCacheRegions.ITEMS_BY_REQUEST, properties.getItemQueries());
+        createCache(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                properties.getItemQueries());
+        // Last write time of every table, checked against cached query results; must outlive them all.
+        createCache(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, null);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheSettings(CacheManager entityCacheManager,
+                                                             EntityCacheProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY,
+                    MissingCacheStrategy.FAIL.getExternalRepresentation());
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, properties.isStatistics());
+            // Statistics also log a summary of every session at INFO; the metrics are enough.
+            hibernateProperties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    private static void createCache(CacheManager cacheManager, String name, EntityCacheProperties.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (region != null) {
+            configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.getExpireAfterWrite().toNanos()));
+        }
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -0,0 +1,55 @@
+package ru.practicum.shareit.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("shareit.cache")
+public class EntityCacheProperties {
+    /**
+     * Keeps users, items and requests loaded by id, and the items of an owner or a request, in memory between
+     * requests.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Hit, miss and put counts of every region, exposed as {@code hibernate.second.level.cache.*} and
+     * {@code hibernate.cache.query.*} metrics.
+     */
+    private boolean statistics = true;
+
+    /**
+     * Writes evict an entry on this instance only; other instances serve the old one for at most
+     * {@code expireAfterWrite}.
+     */
+    private Region users = new Region(10000, Duration.ofMinutes(5));
+
+    private Region items = new Region(10000, Duration.ofMinutes(1));
+
+    /**
+     * Requests are never changed once created.
+     */
+    private Region requests = new Region(10000, Duration.ofHours(1));
+
+    /**
+     * Ids of the items of an owner page or of a request. Any write to the items table invalidates all of them on
+     * this instance.
+     */
+    private Region itemQueries = new Region(10000, Duration.ofMinutes(1));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+        /**
+         * Entries kept before the least recently used are evicted.
+         */
+        private long maximumSize;
+
+        private Duration expireAfterWrite;
+    }
+}
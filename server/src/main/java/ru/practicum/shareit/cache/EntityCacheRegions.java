@@ -0,0 +1,12 @@
+package ru.practicum.shareit.cache;
+
+public final class EntityCacheRegions {
+    public static final String USERS = "users";
+    public static final String ITEMS = "items";
+    public static final String REQUESTS = "requests";
+    public static final String ITEMS_BY_OWNER = "items-by-owner";
+    public static final String ITEMS_BY_REQUEST = "items-by-request";
+
+    private EntityCacheRegions() {
+    }
+}
@@ -0,0 +1,22 @@
+package ru.practicum.shareit.datasource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ConnectionHandlingConfig {
+    /**
+     * By default Hibernate keeps a connection until the session closes, which with open-in-view is the end of the
+     * request, including a streamed response. Releasing it after each transaction returns it to the pool as soon as
+     * the service method is done, and lets read replicas route every transaction on its own; loaded entities stay in
+     * the session for the rest of the request.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionsAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
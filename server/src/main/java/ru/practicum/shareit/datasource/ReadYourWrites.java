@@ -0,0 +1,91 @@
+package ru.practicum.shareit.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers when each user last committed a write, so that their reads skip replicas which may not have replayed
+ * it yet. The user is taken from the {@code X-Sharer-User-Id} header of the current request; the rest of the request
+ * that wrote always reads from the primary.
+ */
+public class ReadYourWrites {
+    private static final String USER_ID = "X-Sharer-User-Id";
+    private static final String WROTE_ATTRIBUTE = ReadYourWrites.class.getName() + ".WROTE";
+
+    private final Map<Long, Long> lastWrites = new ConcurrentHashMap<>();
+
+    /**
+     * Records a write for the current user once the current read-write transaction commits.
+     */
+    public void recordWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReadYourWrites.this);
+                if (status == STATUS_COMMITTED) {
+                    recordWrite();
+                }
+            }
+        });
+    }
+
+    /**
+     * Milliseconds since the current user's last write, or {@link Long#MAX_VALUE} if there was none recently.
+     */
+    public long millisSinceLastWrite() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Long.MAX_VALUE;
+        }
+        if (attributes.getAttribute(WROTE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return 0;
+        }
+        Long userId = userId(attributes);
+        Long lastWrite = userId == null ? null : lastWrites.get(userId);
+        return lastWrite == null ? Long.MAX_VALUE : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastWrite);
+    }
+
+    /**
+     * Forgets writes old enough for every usable replica to have replayed them.
+     */
+    public void evictOlderThan(long millis) {
+        long now = System.nanoTime();
+        lastWrites.values().removeIf(lastWrite -> TimeUnit.NANOSECONDS.toMillis(now - lastWrite) > millis);
+    }
+
+    private void recordWrite() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        attributes.setAttribute(WROTE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        Long userId = userId(attributes);
+        if (userId != null) {
+            lastWrites.put(userId, System.nanoTime());
+        }
+    }
+
+    private static Long userId(RequestAttributes attributes) {
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return null;
+        }
+        String header = ((ServletRequestAttributes) attributes).getRequest().getHeader(USER_ID);
+        try {
+            return header == null ? null : Long.valueOf(header);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.datasource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ReplicaLagMonitor {
+    private final ReplicaPools pools;
+    private final ReplicaProperties properties;
+    private final ReadYourWrites readYourWrites;
+
+    @Scheduled(fixedDelayString = "${shareit.datasource.replica.lag-check-interval:1000}")
+    public void checkLag() {
+        for (ReplicaPools.Replica replica : pools.getReplicas()) {
+            replica.setLagMillis(measureLag(replica));
+        }
+        readYourWrites.evictOlderThan(properties.getMaxLag().toMillis() + properties.getLagCheckInterval());
+    }
+
+    private long measureLag(ReplicaPools.Replica replica) {
+        try {
+            Double lag = new JdbcTemplate(replica.getDataSource())
+                    .queryForObject(properties.getLagQuery(), Double.class);
+            return lag == null ? ReplicaPools.Replica.UNKNOWN_LAG : Math.max(0, (long) Math.ceil(lag));
+        } catch (DataAccessException e) {
+            if (replica.getLagMillis() != ReplicaPools.Replica.UNKNOWN_LAG) {
+                log.warn("Replica {} is taken out of rotation: {}", replica.getName(), e.getMessage());
+            }
+            return ReplicaPools.Replica.UNKNOWN_LAG;
+        }
+    }
+}
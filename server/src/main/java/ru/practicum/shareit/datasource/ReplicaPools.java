@@ -0,0 +1,51 @@
+package ru.practicum.shareit.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Closeable;
+import java.util.List;
+
+/**
+ * Connection pools of the primary and of every read replica, with the replica lag last measured by
+ * {@link ReplicaLagMonitor}.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReplicaPools implements Closeable {
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.getDataSource().close());
+        primary.close();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Replica {
+        /**
+         * Lag of a replica that has not been measured yet or failed the last check.
+         */
+        public static final long UNKNOWN_LAG = Long.MAX_VALUE;
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile long lagMillis = UNKNOWN_LAG;
+
+        void setLagMillis(long lagMillis) {
+            this.lagMillis = lagMillis;
+        }
+
+        /**
+         * Whether the replica lags by at most {@code maxLagMillis} and by less than {@code stalenessMillis}, i.e. has
+         * replayed everything committed on the primary more than {@code stalenessMillis} ago.
+         */
+        boolean canServe(long maxLagMillis, long stalenessMillis) {
+            long lag = lagMillis;
+            return lag <= maxLagMillis && lag < stalenessMillis;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties("shareit.datasource.replica")
+public class ReplicaProperties {
+    /**
+     * JDBC URLs of the read replicas; credentials and pool settings are taken from {@code spring.datasource}.
+     * Routing is switched on only when at least one URL is set.
+     */
+    private List<String> urls = new ArrayList<>();
+
+    /**
+     * Replicas lagging behind the primary by more than this receive no reads at all.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * How often replica lag is measured, in milliseconds.
+     */
+    private long lagCheckInterval = 1000;
+
+    /**
+     * Query returning the replica lag in milliseconds; the default works on a PostgreSQL hot standby and reports zero
+     * when everything received has been replayed.
+     */
+    private String lagQuery = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END";
+}
@@ -0,0 +1,104 @@
+package ru.practicum.shareit.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replaces the auto-configured DataSource with one routing read-only transactions to read replicas. Only active
+ * when {@code shareit.datasource.replica.urls} is set. Routing relies on every transaction taking its own connection,
+ * see {@link ConnectionHandlingConfig}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "shareit.datasource.replica", name = "urls")
+@EnableScheduling
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaRoutingConfig {
+    @Bean(destroyMethod = "close")
+    public ReplicaPools replicaPools(DataSourceProperties dataSourceProperties, ReplicaProperties properties,
+                                     Environment environment) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        List<ReplicaPools.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getUrls().size(); i++) {
+            HikariDataSource pool = new HikariDataSource();
+            primary.copyStateTo(pool);
+            pool.setPoolName((primary.getPoolName() == null ? "" : primary.getPoolName() + "-") + "replica-" + (i + 1));
+            pool.setJdbcUrl(properties.getUrls().get(i));
+            pool.setReadOnly(true);
+            replicas.add(new ReplicaPools.Replica(pool.getPoolName(), pool));
+        }
+        return new ReplicaPools(primary, replicas);
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites() {
+        return new ReadYourWrites();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaPools pools, ReplicaProperties properties,
+                                               ReadYourWrites readYourWrites) {
+        return new ReplicaLagMonitor(pools, properties, readYourWrites);
+    }
+
+    @Bean
+    public DataSource dataSource(ReplicaPools pools, ReadYourWrites readYourWrites, ReplicaProperties properties) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(pools, readYourWrites, properties);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * The pools are not DataSource beans, so Boot does not bind their metrics; the meter registry itself depends on
+     * the DataSource through other binders, hence a binder rather than injecting the registry above.
+     */
+    @Bean
+    public MeterBinder replicaRoutingMetrics(ReplicaPools pools, DataSource dataSource) throws SQLException {
+        ReplicaRoutingDataSource routing = dataSource.unwrap(ReplicaRoutingDataSource.class);
+        return registry -> {
+            bindPoolMetrics(pools.getPrimary(), registry);
+            for (ReplicaPools.Replica replica : pools.getReplicas()) {
+                bindPoolMetrics(replica.getDataSource(), registry);
+                Gauge.builder("shareit.datasource.replica.lag", replica, ReplicaPools.Replica::getLagMillis)
+                        .description("Replica lag in milliseconds as last measured")
+                        .tag("replica", replica.getName())
+                        .register(registry);
+            }
+            routing.getRouted().forEach((target, count) ->
+                    FunctionCounter.builder("shareit.datasource.routed", count, LongAdder::sum)
+                            .description("Connections handed out, by database")
+                            .tag("target", target)
+                            .register(registry));
+        };
+    }
+
+    private static void bindPoolMetrics(HikariDataSource pool, MeterRegistry registry) {
+        // Boot binds the pool it finds behind the DataSource bean, i.e. the primary, unless we get there first.
+        if (pool.getMetricsTrackerFactory() == null && pool.getMetricRegistry() == null) {
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+    }
+}
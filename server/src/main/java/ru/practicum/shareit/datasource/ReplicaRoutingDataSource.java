@@ -0,0 +1,77 @@
+package ru.practicum.shareit.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends connections of read-only transactions to a replica, round robin among those whose lag is within
+ * {@code shareit.datasource.replica.max-lag} and which have already replayed the current user's last write.
+ * Everything else, including work outside a transaction, goes to the primary.
+ * <p>
+ * The route is decided when a connection is taken, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction manager takes the
+ * connection before the read-only flag of the transaction is visible.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+
+    private final List<ReplicaPools.Replica> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final long maxLagMillis;
+    private final long lagCheckIntervalMillis;
+    private final Map<String, LongAdder> routed = new HashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(ReplicaPools pools, ReadYourWrites readYourWrites, ReplicaProperties properties) {
+        this.replicas = pools.getReplicas();
+        this.readYourWrites = readYourWrites;
+        this.maxLagMillis = properties.getMaxLag().toMillis();
+        this.lagCheckIntervalMillis = properties.getLagCheckInterval();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, pools.getPrimary());
+        replicas.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(pools.getPrimary());
+        setLenientFallback(false);
+        targets.keySet().forEach(target -> routed.put((String) target, new LongAdder()));
+    }
+
+    /**
+     * Connections handed out so far, by target: {@code primary} or the replica pool name.
+     */
+    public Map<String, LongAdder> getRouted() {
+        return routed;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String target = route();
+        routed.get(target).increment();
+        return target;
+    }
+
+    private String route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWrites.recordWriteOnCommit();
+            return PRIMARY;
+        }
+
+        // A lag measurement is up to one check interval old, so the replica must be that much further ahead.
+        long stalenessMillis = readYourWrites.millisSinceLastWrite() - lagCheckIntervalMillis;
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            ReplicaPools.Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.canServe(maxLagMillis, stalenessMillis)) {
+                return replica.getName();
+            }
+        }
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,15 @@
+package ru.practicum.shareit.item;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CommentProperties.class)
+public class CommentConfig {
+    @Bean
+    public CommentPreviewCache commentPreviewCache(CommentProperties properties, MeterRegistry meterRegistry) {
+        return new CommentPreviewCache(properties, meterRegistry);
+    }
+}
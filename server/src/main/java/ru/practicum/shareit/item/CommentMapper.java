@@ -3,6 +3,7 @@ package ru.practicum.shareit.item;
 import org.springframework.stereotype.Component;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.CommentView;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.User;
 
@@ -21,7 +22,16 @@ public class CommentMapper {
                 .build();
     }
 
-    public List<CommentDto> toDto(List<Comment> comments) {
+    public CommentDto toDto(CommentView comment) {
+        return CommentDto.builder()
+                .id(comment.getId())
+                .authorName(comment.getAuthorName())
+                .created(comment.getCreated())
+                .text(comment.getText())
+                .build();
+    }
+
+    public List<CommentDto> toDto(List<CommentView> comments) {
         return comments.stream()
                 .map(this::toDto)
                 .collect(Collectors.toList());
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.item;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.model.CommentPreview;
+
+import java.util.function.Function;
+
+/**
+ * Comment previews by item ID.
+ */
+public class CommentPreviewCache {
+    private final Cache<Long, CommentPreview> cache;
+
+    public CommentPreviewCache(CommentProperties properties, MeterRegistry meterRegistry) {
+        cache = Caffeine.newBuilder()
+                .maximumSize(properties.getPreviewCacheSize())
+                .expireAfterWrite(properties.getPreviewCacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "commentPreviews");
+    }
+
+    public CommentPreview get(long itemId, Function<Long, CommentPreview> loader) {
+        return cache.get(itemId, loader);
+    }
+
+    /**
+     * Evicts the preview once the transaction adding a comment commits; evicting earlier would let a concurrent read
+     * cache the preview without the comment again.
+     */
+    public void evictOnCommit(long itemId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(itemId);
+                }
+            });
+        } else {
+            cache.invalidate(itemId);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.item;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("shareit.comments")
+public class CommentProperties {
+    /**
+     * Latest comments returned with an item; the rest are paged through {@code GET /items/{itemId}/comments}.
+     */
+    private int previewSize = 10;
+
+    /**
+     * Items whose comment preview is cached.
+     */
+    private long previewCacheSize = 10000;
+
+    /**
+     * A new comment evicts the preview on this instance only; other instances serve the old one for at most this
+     * long.
+     */
+    private Duration previewCacheTtl = Duration.ofMinutes(1);
+}
@@ -1,10 +1,19 @@
 package ru.practicum.shareit.item;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.CommentView;
 
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findAllByItemIdOrderByCreatedDesc(long itemId);
+    @Query("select new ru.practicum.shareit.item.model.CommentView(c.id, c.text, a.name, c.created) " +
+            "from Comment c join c.author a " +
+            "where c.item.id = :itemId " +
+            "order by c.created desc, c.id desc")
+    List<CommentView> findViewsByItemId(long itemId, Pageable pageable);
+
+    long countByItemId(long itemId);
 }
@@ -13,9 +13,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.booking.BookingMapper;
-import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.booking.summary.ItemBookingSummary;
+import ru.practicum.shareit.booking.summary.ItemBookingSummaryService;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.CommentPreview;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.user.User;
@@ -23,6 +25,7 @@ import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -33,7 +36,7 @@ public class ItemController {
     private static final String USER_ID = "X-Sharer-User-Id";
     private final ItemService itemService;
     private final ItemMapper itemMapper;
-    private final BookingService bookingService;
+    private final ItemBookingSummaryService itemBookingSummaryService;
     private final BookingMapper bookingMapper;
     private final UserService userService;
     private final CommentMapper commentMapper;
@@ -44,12 +47,11 @@ public class ItemController {
                                 @RequestParam int size) {
         log.debug("GET request: all items of user {}", ownerId);
         int page = from / size;
-        return itemService.getItemsByOwnerId(ownerId, PageRequest.of(page, size)).stream()
-                .map(item -> itemMapper.toDto(item,
-                        bookingMapper.toDtoForItem(bookingService.getLastItemBooking(item.getId())),
-                        bookingMapper.toDtoForItem(bookingService.getNextItemBooking(item.getId())),
-                        commentMapper.toDto(itemService.getComments(item.getId())))
-                )
+        List<Item> items = itemService.getItemsByOwnerId(ownerId, PageRequest.of(page, size));
+        Map<Long, ItemBookingSummary> summaries = itemBookingSummaryService.getSummaries(
+                items.stream().map(Item::getId).collect(Collectors.toList()));
+        return items.stream()
+                .map(item -> toOwnerDto(item, summaries.get(item.getId())))
                 .collect(Collectors.toList());
     }
 
@@ -60,13 +62,11 @@ public class ItemController {
         Item item = itemService.getItemById(itemId);
 
         if (item.getOwnerId() != userId) {
-            return itemMapper.toDto(item, commentMapper.toDto(itemService.getComments(item.getId())));
+            CommentPreview comments = itemService.getCommentPreview(item.getId());
+            return itemMapper.toDto(item, commentMapper.toDto(comments.getLatest()), comments.getCount());
         }
 
-        return itemMapper.toDto(item,
-                bookingMapper.toDtoForItem(bookingService.getLastItemBooking(item.getId())),
-                bookingMapper.toDtoForItem(bookingService.getNextItemBooking(item.getId())),
-                commentMapper.toDto(itemService.getComments(item.getId())));
+        return toOwnerDto(item, itemBookingSummaryService.getSummaries(List.of(itemId)).get(itemId));
     }
 
     @GetMapping("/search")
@@ -107,4 +107,22 @@ public class ItemController {
         return commentMapper.toDto(itemService.addComment(
                 commentMapper.toComment(commentDto, author, item, LocalDateTime.now())));
     }
+
+    @GetMapping("/{itemId}/comments")
+    public List<CommentDto> getComments(@PathVariable long itemId,
+                                        @RequestParam int from,
+                                        @RequestParam int size) {
+        log.debug("GET request: comments of item ID {}", itemId);
+        int page = from / size;
+        return commentMapper.toDto(itemService.getComments(itemId, PageRequest.of(page, size)));
+    }
+
+    private ItemDto toOwnerDto(Item item, ItemBookingSummary summary) {
+        CommentPreview comments = itemService.getCommentPreview(item.getId());
+        return itemMapper.toDto(item,
+                bookingMapper.toDtoForItem(item.getId(), summary.getLast()),
+                bookingMapper.toDtoForItem(item.getId(), summary.getNext()),
+                commentMapper.toDto(comments.getLatest()),
+                comments.getCount());
+    }
 }
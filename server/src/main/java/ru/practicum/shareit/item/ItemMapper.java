@@ -20,7 +20,7 @@ public class ItemMapper {
                 .build();
     }
 
-    public ItemDto toDto(Item item, List<CommentDto> comments) {
+    public ItemDto toDto(Item item, List<CommentDto> comments, long commentCount) {
         return ItemDto.builder()
                 .id(item.getId())
                 .name(item.getName())
@@ -28,11 +28,12 @@ public class ItemMapper {
                 .requestId(item.getRequestId())
                 .available(item.getAvailable())
                 .comments(comments)
+                .commentCount(commentCount)
                 .build();
     }
 
     public ItemDto toDto(Item item, BookingForItemDto lastBooking, BookingForItemDto nextBooking,
-                         List<CommentDto> comments) {
+                         List<CommentDto> comments, long commentCount) {
         return ItemDto.builder()
                 .id(item.getId())
                 .name(item.getName())
@@ -42,6 +43,7 @@ public class ItemMapper {
                 .lastBooking(lastBooking)
                 .nextBooking(nextBooking)
                 .comments(comments)
+                .commentCount(commentCount)
                 .build();
     }
 
@@ -3,11 +3,23 @@ package ru.practicum.shareit.item;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import ru.practicum.shareit.cache.EntityCacheRegions;
 import ru.practicum.shareit.item.model.Item;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+import static org.hibernate.annotations.QueryHints.CACHE_REGION;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
+    /**
+     * Cached per owner and page; any write to the items table invalidates the cached results.
+     */
+    @QueryHints({@QueryHint(name = CACHEABLE, value = "true"),
+            @QueryHint(name = CACHE_REGION, value = EntityCacheRegions.ITEMS_BY_OWNER)})
     List<Item> findAllByOwnerIdOrderById(long ownerId, Pageable pageable);
 
     @Query("select i from Item i " +
@@ -16,5 +28,14 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
             "and i.available = true")
     List<Item> searchText(String text, Pageable pageable);
 
+    @QueryHints({@QueryHint(name = CACHEABLE, value = "true"),
+            @QueryHint(name = CACHE_REGION, value = EntityCacheRegions.ITEMS_BY_REQUEST)})
     List<Item> findAllByRequestId(long requestId);
+
+    /**
+     * Locks the item row; waits for transactions still adding bookings or comments of the item, as their foreign keys
+     * hold a share lock on it.
+     */
+    @Query(value = "select id from items where id = :itemId for update", nativeQuery = true)
+    Optional<Long> lockById(long itemId);
 }
@@ -17,4 +17,5 @@ public class ItemDto {
     private BookingForItemDto lastBooking;
     private BookingForItemDto nextBooking;
     private List<CommentDto> comments;
+    private Long commentCount;
 }
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.item.model;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Number of comments of an item and the latest of them, newest first.
+ */
+@Value
+public class CommentPreview {
+    long count;
+    List<CommentView> latest;
+}
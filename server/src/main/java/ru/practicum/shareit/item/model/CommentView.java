@@ -0,0 +1,16 @@
+package ru.practicum.shareit.item.model;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * A comment as it is shown, read together with the author name in one query.
+ */
+@Value
+public class CommentView {
+    long id;
+    String text;
+    String authorName;
+    LocalDateTime created;
+}
@@ -4,7 +4,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import ru.practicum.shareit.cache.EntityCacheRegions;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
@@ -12,12 +17,20 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Table;
 
+/**
+ * Bookings reference their items as lazy proxies. Initialising one loads up to 100 uninitialised Item proxies of
+ * the same session with a single {@code in} query, so mapping a page of bookings does not query them one by one.
+ * Items already in the second-level cache are not queried at all.
+ */
 @Entity
 @Table(name = "items")
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@BatchSize(size = 100)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.ITEMS)
 public class Item {
 
     @Id
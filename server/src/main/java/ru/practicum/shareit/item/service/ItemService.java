@@ -2,6 +2,8 @@ package ru.practicum.shareit.item.service;
 
 import org.springframework.data.domain.Pageable;
 import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.CommentPreview;
+import ru.practicum.shareit.item.model.CommentView;
 import ru.practicum.shareit.item.model.Item;
 
 import java.util.List;
@@ -19,7 +21,9 @@ public interface ItemService {
 
     Comment addComment(Comment comment);
 
-    List<Comment> getComments(long itemId);
+    CommentPreview getCommentPreview(long itemId);
+
+    List<CommentView> getComments(long itemId, Pageable pageable);
 
     List<Item> getItemsByRequestId(long requestId);
 }
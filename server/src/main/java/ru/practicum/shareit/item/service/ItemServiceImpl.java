@@ -1,30 +1,52 @@
 package ru.practicum.shareit.item.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.eligibility.ApprovedBookingFilter;
+import ru.practicum.shareit.booking.summary.ItemBookingSummaryService;
 import ru.practicum.shareit.exception.ForbiddenException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.CommentPreviewCache;
+import ru.practicum.shareit.item.CommentProperties;
 import ru.practicum.shareit.item.CommentRepository;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.CommentPreview;
+import ru.practicum.shareit.item.model.CommentView;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.outbox.ChangeEventPublisher;
+import ru.practicum.shareit.outbox.ChangeEventType;
 import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.request.feed.RequestFeedService;
+import ru.practicum.shareit.request.matching.RequestMatchingService;
 import ru.practicum.shareit.user.UserRepository;
 
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "shareit.service", histogram = true)
+@Transactional(readOnly = true)
 public class ItemServiceImpl implements ItemService {
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
     private final BookingRepository bookingRepository;
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemBookingSummaryService itemBookingSummaryService;
+    private final ApprovedBookingFilter approvedBookingFilter;
+    private final CommentPreviewCache commentPreviewCache;
+    private final CommentProperties commentProperties;
+    private final ChangeEventPublisher changeEventPublisher;
+    private final RequestMatchingService requestMatchingService;
+    private final RequestFeedService requestFeedService;
 
     @Override
     public List<Item> getItemsByOwnerId(long ownerId, Pageable pageable) {
@@ -47,6 +69,7 @@ public class ItemServiceImpl implements ItemService {
     }
 
     @Override
+    @Transactional
     public Item addItem(Item item) {
         if (!userRepository.existsById(item.getOwnerId())) {
             throw new NotFoundException(String.format("User ID %d is not found", item.getOwnerId()));
@@ -55,10 +78,16 @@ public class ItemServiceImpl implements ItemService {
             throw new NotFoundException(String.format("Request ID %d is not found", item.getRequestId()));
         }
 
-        return itemRepository.save(item);
+        Item savedItem = itemRepository.save(item);
+        itemBookingSummaryService.addSummary(savedItem.getId());
+        requestFeedService.onItemSaved(savedItem);
+        requestMatchingService.matchItem(savedItem);
+        changeEventPublisher.publish(savedItem, ChangeEventType.CREATED);
+        return savedItem;
     }
 
     @Override
+    @Transactional
     public Item updateItem(Item item) {
         Item itemToUpdate = itemRepository
                 .findById(item.getId())
@@ -79,26 +108,51 @@ public class ItemServiceImpl implements ItemService {
             itemToUpdate.setAvailable(item.getAvailable());
         }
 
-        return itemRepository.save(itemToUpdate);
+        Item updatedItem = itemRepository.save(itemToUpdate);
+        requestFeedService.onItemSaved(updatedItem);
+        changeEventPublisher.publish(updatedItem, ChangeEventType.UPDATED);
+        return updatedItem;
     }
 
     @Override
+    @Transactional
     public Comment addComment(Comment comment) {
-        boolean authorHasNotBookedTheItemBefore = bookingRepository.findAllByItemIdAndBookerIdAndStatusAndEndBefore(
-                        comment.getItem().getId(), comment.getAuthor().getId(), BookingStatus.APPROVED, comment.getCreated())
-                .isEmpty();
-
-        if (authorHasNotBookedTheItemBefore) {
-            throw new ValidationException(String.format("User ID %d has no past bookings of item ID %d",
-                    comment.getAuthor().getId(), comment.getItem().getId()));
+        long itemId = comment.getItem().getId();
+        long authorId = comment.getAuthor().getId();
+        boolean authorHasBookedTheItemBefore = approvedBookingFilter.mightHaveApprovedBooking(itemId, authorId)
+                && bookingRepository.existsByItemIdAndBookerIdAndStatusAndEndBefore(
+                        itemId, authorId, BookingStatus.APPROVED, comment.getCreated());
+
+        if (!authorHasBookedTheItemBefore) {
+            throw new ValidationException(
+                    String.format("User ID %d has no past bookings of item ID %d", authorId, itemId));
         }
 
-        return commentRepository.save(comment);
+        Comment savedComment = commentRepository.save(comment);
+        commentPreviewCache.evictOnCommit(itemId);
+        changeEventPublisher.publish(savedComment);
+        return savedComment;
+    }
+
+    @Override
+    public CommentPreview getCommentPreview(long itemId) {
+        return commentPreviewCache.get(itemId, id -> {
+            List<CommentView> latest = commentRepository.findViewsByItemId(id,
+                    PageRequest.of(0, commentProperties.getPreviewSize()));
+            long count = latest.size() < commentProperties.getPreviewSize()
+                    ? latest.size()
+                    : commentRepository.countByItemId(id);
+            return new CommentPreview(count, latest);
+        });
     }
 
     @Override
-    public List<Comment> getComments(long itemId) {
-        return commentRepository.findAllByItemIdOrderByCreatedDesc(itemId);
+    public List<CommentView> getComments(long itemId, Pageable pageable) {
+        if (!itemRepository.existsById(itemId)) {
+            throw new NotFoundException(String.format("Item ID %d is not found", itemId));
+        }
+
+        return commentRepository.findViewsByItemId(itemId, pageable);
     }
 
     @Override
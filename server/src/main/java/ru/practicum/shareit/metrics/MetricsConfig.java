@@ -0,0 +1,55 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(SqlStatementProperties.class)
+public class MetricsConfig {
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public SqlStatementMetricsInterceptor sqlStatementMetricsInterceptor(SqlStatementCounter sqlStatementCounter,
+                                                                         SqlStatementProperties properties,
+                                                                         MeterRegistry meterRegistry) {
+        return new SqlStatementMetricsInterceptor(sqlStatementCounter, properties, meterRegistry);
+    }
+
+    /**
+     * Wraps the DataSource with datasource-proxy and hands every execution to all {@link QueryExecutionListener} beans:
+     * the statement counter and the JDBC tracing listener.
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<QueryExecutionListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof ProxyDataSource)) {
+                    ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create((DataSource) bean).name(beanName);
+                    listeners.orderedStream().forEach(builder::listener);
+                    return builder.build();
+                }
+                return bean;
+            }
+        };
+    }
+}
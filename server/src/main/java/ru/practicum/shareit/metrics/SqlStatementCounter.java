@@ -0,0 +1,87 @@
+package ru.practicum.shareit.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts JDBC statement executions on the current thread. Fed by the datasource proxy, so it sees every statement
+ * regardless of whether it comes from Hibernate or plain JDBC. Recordings nest: a test can record around a MockMvc
+ * call while the request interceptor records the same statements for metrics.
+ */
+public class SqlStatementCounter implements QueryExecutionListener {
+    private final ThreadLocal<Deque<Recording>> recordings = new ThreadLocal<>();
+
+    public Recording start() {
+        Deque<Recording> current = recordings.get();
+        if (current == null) {
+            current = new ArrayDeque<>();
+            recordings.set(current);
+        }
+        Recording recording = new Recording();
+        current.push(recording);
+        return recording;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Deque<Recording> current = recordings.get();
+        if (current == null) {
+            return;
+        }
+        for (Recording recording : current) {
+            recording.count++;
+            for (QueryInfo queryInfo : queryInfoList) {
+                recording.statements.merge(queryInfo.getQuery(), 1, Integer::sum);
+            }
+        }
+    }
+
+    public class Recording implements AutoCloseable {
+        private final Map<String, Integer> statements = new HashMap<>();
+        private int count;
+
+        /**
+         * Number of statement executions; a batch counts once.
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * The statement executed most often, or {@code null} if nothing was executed. The same prepared statement
+         * repeated once per row is how an N+1 shows up.
+         */
+        public Map.Entry<String, Integer> getMostRepeated() {
+            return statements.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .orElse(null);
+        }
+
+        public int getMaxRepetitions() {
+            Map.Entry<String, Integer> mostRepeated = getMostRepeated();
+            return mostRepeated == null ? 0 : mostRepeated.getValue();
+        }
+
+        @Override
+        public void close() {
+            Deque<Recording> current = recordings.get();
+            if (current != null) {
+                current.remove(this);
+                if (current.isEmpty()) {
+                    recordings.remove();
+                }
+            }
+        }
+    }
+}
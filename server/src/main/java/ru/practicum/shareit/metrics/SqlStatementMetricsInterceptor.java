@@ -0,0 +1,67 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+
+/**
+ * Records how many SQL statements each request executed, tagged like {@code http.server.requests}, and flags requests
+ * that run too many statements or repeat one statement too often, which is what an N+1 looks like.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementMetricsInterceptor implements HandlerInterceptor {
+    static final String METRIC_NAME = "shareit.request.sql.statements";
+    static final String FLAGGED_METRIC_NAME = "shareit.request.sql.flagged";
+    private static final String RECORDING_ATTRIBUTE = SqlStatementMetricsInterceptor.class.getName() + ".recording";
+
+    private final SqlStatementCounter counter;
+    private final SqlStatementProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        request.setAttribute(RECORDING_ATTRIBUTE, counter.start());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        SqlStatementCounter.Recording recording =
+                (SqlStatementCounter.Recording) request.getAttribute(RECORDING_ATTRIBUTE);
+        if (recording == null) {
+            return;
+        }
+        recording.close();
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+        DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements executed per HTTP request")
+                .baseUnit("statements")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(recording.getCount());
+
+        if (recording.getCount() > properties.getWarnThreshold()
+                || recording.getMaxRepetitions() > properties.getRepeatThreshold()) {
+            meterRegistry.counter(FLAGGED_METRIC_NAME, tags).increment();
+            Map.Entry<String, Integer> mostRepeated = recording.getMostRepeated();
+            log.warn("{} {} executed {} SQL statements, most repeated {} times: {}", request.getMethod(),
+                    uri, recording.getCount(), mostRepeated.getValue(), mostRepeated.getKey());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.metrics;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("shareit.sql-statements")
+public class SqlStatementProperties {
+    /**
+     * Requests executing more statements than this are logged and counted as flagged.
+     */
+    private int warnThreshold = 25;
+
+    /**
+     * Requests executing the same statement more times than this are logged and counted as flagged.
+     */
+    private int repeatThreshold = 5;
+}
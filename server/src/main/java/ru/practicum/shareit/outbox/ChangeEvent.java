@@ -0,0 +1,56 @@
+package ru.practicum.shareit.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * A change of an item, a booking or a request, written in the transaction that made it.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeEventEntity entity;
+
+    @Column(name = "entity_id", nullable = false)
+    private long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeEventType type;
+
+    /**
+     * State of the entity after the change, as JSON.
+     */
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime created;
+
+    /**
+     * When the event was handed to the {@link ChangeEventSink}, {@code null} until then.
+     */
+    private LocalDateTime published;
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change event as sent to the file and webhook sinks.
+ */
+@Value
+public class ChangeEventMessage {
+    long id;
+    ChangeEventEntity entity;
+    long entityId;
+    ChangeEventType type;
+    LocalDateTime created;
+
+    @JsonRawValue
+    String payload;
+
+    public static ChangeEventMessage of(ChangeEvent event) {
+        return new ChangeEventMessage(event.getId(), event.getEntity(), event.getEntityId(), event.getType(),
+                event.getCreated(), event.getPayload());
+    }
+}
@@ -0,0 +1,90 @@
+package ru.practicum.shareit.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.ItemRequest;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes change events to {@code outbox_events} in the caller's transaction, so an event exists if and only if its
+ * change was committed. Payloads hold only columns of the changed row and never load associations.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeEventPublisher {
+    private final ChangeEventRepository eventRepository;
+    private final OutboxProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(Item item, ChangeEventType type) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", item.getId());
+        payload.put("name", item.getName());
+        payload.put("description", item.getDescription());
+        payload.put("available", item.getAvailable());
+        payload.put("ownerId", item.getOwnerId());
+        payload.put("requestId", item.getRequestId());
+        save(ChangeEventEntity.ITEM, item.getId(), type, payload);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(Comment comment) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", comment.getId());
+        payload.put("itemId", comment.getItem().getId());
+        payload.put("authorId", comment.getAuthor().getId());
+        payload.put("text", comment.getText());
+        payload.put("created", comment.getCreated());
+        save(ChangeEventEntity.ITEM, comment.getItem().getId(), ChangeEventType.COMMENTED, payload);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(Booking booking, ChangeEventType type) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", booking.getId());
+        payload.put("itemId", booking.getItem().getId());
+        payload.put("bookerId", booking.getBooker().getId());
+        payload.put("start", booking.getStart());
+        payload.put("end", booking.getEnd());
+        payload.put("status", booking.getStatus());
+        save(ChangeEventEntity.BOOKING, booking.getId(), type, payload);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(ItemRequest request, ChangeEventType type) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", request.getId());
+        payload.put("description", request.getDescription());
+        payload.put("requesterId", request.getRequesterId());
+        payload.put("created", request.getCreated());
+        save(ChangeEventEntity.REQUEST, request.getId(), type, payload);
+    }
+
+    private void save(ChangeEventEntity entity, long entityId, ChangeEventType type, Map<String, Object> payload) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            eventRepository.save(ChangeEvent.builder()
+                    .entity(entity)
+                    .entityId(entityId)
+                    .type(type)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .created(LocalDateTime.now())
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package ru.practicum.shareit.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Sends unpublished change events to the {@link ChangeEventSink} in batches and marks them published in the same
+ * transaction, so a batch is either published or sent again on the next run: delivery is at least once. Ids are
+ * assigned on insert, not on commit, so an event may be published after events with greater ids: consumers drop
+ * duplicates by the ids they have seen, not by the greatest one.
+ */
+@Slf4j
+public class ChangeEventRelay {
+    private final ChangeEventRepository eventRepository;
+    private final ChangeEventSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+    private final Counter published;
+    private final Counter failed;
+
+    public ChangeEventRelay(ChangeEventRepository eventRepository, ChangeEventSink sink,
+                            TransactionTemplate transactionTemplate, OutboxProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.published = meterRegistry.counter("shareit.outbox.published");
+        this.failed = meterRegistry.counter("shareit.outbox.failed");
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.outbox.poll-interval:1000}")
+    public void relay() {
+        try {
+            Integer sent;
+            do {
+                sent = transactionTemplate.execute(status -> relayBatch());
+            } while (sent != null && sent == properties.getBatchSize());
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.error("Change events are not relayed, will retry on the next run", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.outbox.cleanup-interval:3600000}")
+    public void cleanup() {
+        try {
+            int deleted = eventRepository.deleteAllByPublishedBefore(
+                    LocalDateTime.now().minus(properties.getRetention()));
+            if (deleted > 0) {
+                log.debug("Deleted {} published change events", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.error("Published change events are not deleted, will retry on the next run", e);
+        }
+    }
+
+    private int relayBatch() {
+        List<ChangeEvent> events = eventRepository.findUnpublishedForUpdate(
+                PageRequest.of(0, properties.getBatchSize()));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        sink.send(events);
+        LocalDateTime now = LocalDateTime.now();
+        events.forEach(event -> event.setPublished(now));
+        published.increment(events.size());
+        return events.size();
+    }
+}
@@ -0,0 +1,28 @@
+package ru.practicum.shareit.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChangeEventRepository extends JpaRepository<ChangeEvent, Long> {
+    /**
+     * Locks the oldest unpublished events. A concurrent relay waits for the lock and then skips the events published
+     * meanwhile, so events are published one batch at a time. Events of transactions that commit later can still have
+     * smaller ids than events already published.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from ChangeEvent e where e.published is null order by e.id")
+    List<ChangeEvent> findUnpublishedForUpdate(Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ChangeEvent e where e.published < :published")
+    int deleteAllByPublishedBefore(LocalDateTime published);
+}
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.outbox;
+
+import java.util.List;
+
+/**
+ * Where {@link ChangeEventRelay} delivers change events. A batch that throws is delivered again, so the receiving
+ * side has to tolerate duplicates; {@link ChangeEvent#getId()} identifies an event.
+ */
+public interface ChangeEventSink {
+    void send(List<ChangeEvent> events);
+}
@@ -0,0 +1,45 @@
+package ru.practicum.shareit.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends events to a file, one JSON object per line, and syncs the file before the events are marked published.
+ */
+@RequiredArgsConstructor
+public class FileChangeEventSink implements ChangeEventSink {
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void send(List<ChangeEvent> events) {
+        StringBuilder lines = new StringBuilder();
+        for (ChangeEvent event : events) {
+            try {
+                lines.append(objectMapper.writeValueAsString(ChangeEventMessage.of(event))).append('\n');
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
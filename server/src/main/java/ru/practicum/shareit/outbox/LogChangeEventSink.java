@@ -0,0 +1,16 @@
+package ru.practicum.shareit.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+@Slf4j
+public class LogChangeEventSink implements ChangeEventSink {
+    @Override
+    public void send(List<ChangeEvent> events) {
+        for (ChangeEvent event : events) {
+            log.info("Change event {}: {} {} ID {}, {}", event.getId(), event.getType(), event.getEntity(),
+                    event.getEntityId(), event.getPayload());
+        }
+    }
+}
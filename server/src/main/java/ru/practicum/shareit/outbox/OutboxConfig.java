@@ -0,0 +1,49 @@
+package ru.practicum.shareit.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+    @Bean
+    @ConditionalOnProperty(prefix = "shareit.outbox", name = "enabled", havingValue = "true")
+    public ChangeEventRelay changeEventRelay(ChangeEventRepository eventRepository, ChangeEventSink sink,
+                                             TransactionTemplate transactionTemplate, OutboxProperties properties,
+                                             MeterRegistry meterRegistry) {
+        return new ChangeEventRelay(eventRepository, sink, transactionTemplate, properties, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "shareit.outbox", name = "sink", havingValue = "log", matchIfMissing = true)
+    public ChangeEventSink logChangeEventSink() {
+        return new LogChangeEventSink();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "shareit.outbox", name = "sink", havingValue = "file")
+    public ChangeEventSink fileChangeEventSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        return new FileChangeEventSink(properties.getFile().getPath(), objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "shareit.outbox", name = "sink", havingValue = "webhook")
+    public ChangeEventSink webhookChangeEventSink(OutboxProperties properties, RestTemplateBuilder builder) {
+        OutboxProperties.Webhook webhook = properties.getWebhook();
+        if (webhook.getUrl() == null) {
+            throw new IllegalStateException("shareit.outbox.webhook.url is required for the webhook sink");
+        }
+        return new WebhookChangeEventSink(builder
+                .setConnectTimeout(webhook.getConnectTimeout())
+                .setReadTimeout(webhook.getReadTimeout())
+                .build(), webhook.getUrl());
+    }
+}
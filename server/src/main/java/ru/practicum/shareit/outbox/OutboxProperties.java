@@ -0,0 +1,65 @@
+package ru.practicum.shareit.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("shareit.outbox")
+public class OutboxProperties {
+    /**
+     * Write change events of items, bookings and requests to {@code outbox_events} and relay them to the sink.
+     */
+    private boolean enabled = false;
+
+    private Sink sink = Sink.LOG;
+
+    /**
+     * How often unpublished events are relayed, in milliseconds.
+     */
+    private long pollInterval = 1000;
+
+    /**
+     * Events sent to the sink at once.
+     */
+    private int batchSize = 500;
+
+    /**
+     * How long published events are kept in {@code outbox_events}.
+     */
+    private Duration retention = Duration.ofDays(1);
+
+    /**
+     * How often published events older than {@link #retention} are deleted, in milliseconds.
+     */
+    private long cleanupInterval = 3600000;
+
+    private final File file = new File();
+
+    private final Webhook webhook = new Webhook();
+
+    public enum Sink {
+        LOG,
+        FILE,
+        WEBHOOK
+    }
+
+    @Data
+    public static class File {
+        private Path path = Path.of("change-events.jsonl");
+    }
+
+    @Data
+    public static class Webhook {
+        private String url;
+
+        private Duration connectTimeout = Duration.ofSeconds(2);
+
+        /**
+         * Unpublished events stay locked while the webhook responds, holding back the relays of other instances.
+         */
+        private Duration readTimeout = Duration.ofSeconds(10);
+    }
+}
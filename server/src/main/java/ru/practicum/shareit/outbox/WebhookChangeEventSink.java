@@ -0,0 +1,27 @@
+package ru.practicum.shareit.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Posts each batch as a JSON array; any response other than 2xx fails the batch.
+ */
+@RequiredArgsConstructor
+public class WebhookChangeEventSink implements ChangeEventSink {
+    private final RestTemplate restTemplate;
+    private final String url;
+
+    @Override
+    public void send(List<ChangeEvent> events) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        restTemplate.postForEntity(url, new HttpEntity<>(
+                events.stream().map(ChangeEventMessage::of).collect(Collectors.toList()), headers), Void.class);
+    }
+}
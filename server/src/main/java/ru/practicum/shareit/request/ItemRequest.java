@@ -4,7 +4,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import ru.practicum.shareit.cache.EntityCacheRegions;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
@@ -13,12 +18,18 @@ import javax.persistence.Id;
 import javax.persistence.Table;
 import java.time.LocalDateTime;
 
+/**
+ * Requests are never changed once created, so their cache entries are never invalidated.
+ */
 @Entity
 @Table(name = "requests")
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = EntityCacheRegions.REQUESTS)
 public class ItemRequest {
 
     @Id
@@ -2,8 +2,6 @@ package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -14,9 +12,15 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.feed.RequestFeedEntry;
+import ru.practicum.shareit.request.feed.RequestFeedService;
+import ru.practicum.shareit.request.matching.RequestCandidate;
+import ru.practicum.shareit.request.matching.RequestMatchingService;
 import ru.practicum.shareit.request.service.ItemRequestService;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -28,25 +32,34 @@ public class ItemRequestController {
     private final ItemRequestService itemRequestService;
     private final ItemRequestMapper itemRequestMapper;
     private final ItemService itemService;
+    private final RequestMatchingService requestMatchingService;
+    private final RequestFeedService requestFeedService;
 
     @GetMapping("/all")
     public List<ItemRequestDto> getAll(@RequestHeader(USER_ID) long userId,
-                                       @RequestParam int from,
-                                       @RequestParam int size) {
-        log.debug("GET request: all item requests; from = {}, size = {}, user ID = {}", from, size, userId);
-        int page = from / size;
-        return itemRequestService.getAllRequests(userId, PageRequest.of(page, size, Sort.by("created").descending())).stream()
-                .map(itemRequest ->
-                        itemRequestMapper.toDto(itemRequest, itemService.getItemsByRequestId(itemRequest.getId())))
+                                       @RequestParam(defaultValue = "0") int from,
+                                       @RequestParam int size,
+                                       @RequestParam(required = false) Long before) {
+        log.debug("GET request: all item requests; from = {}, before = {}, size = {}, user ID = {}",
+                from, before, size, userId);
+        List<RequestFeedEntry> entries = before == null
+                ? requestFeedService.getFeed(userId, from, size)
+                : requestFeedService.getFeedBefore(userId, before, size);
+        return entries.stream()
+                .map(itemRequestMapper::toDto)
                 .collect(Collectors.toList());
     }
 
     @GetMapping
     public List<ItemRequestDto> getAllByRequester(@RequestHeader(USER_ID) long requesterId) {
         log.debug("GET request: all item requests of requester ID {}", requesterId);
-        return itemRequestService.getAllByRequesterId(requesterId).stream()
-                .map(itemRequest ->
-                        itemRequestMapper.toDto(itemRequest, itemService.getItemsByRequestId(itemRequest.getId())))
+        List<ItemRequest> itemRequests = itemRequestService.getAllByRequesterId(requesterId);
+        Map<Long, List<RequestCandidate>> candidates = requestMatchingService.getCandidates(
+                itemRequests.stream().map(ItemRequest::getId).collect(Collectors.toList()));
+        return itemRequests.stream()
+                .map(itemRequest -> itemRequestMapper.toDto(itemRequest,
+                        itemService.getItemsByRequestId(itemRequest.getId()),
+                        candidates.getOrDefault(itemRequest.getId(), Collections.emptyList())))
                 .collect(Collectors.toList());
     }
 
@@ -54,8 +67,13 @@ public class ItemRequestController {
     public ItemRequestDto getById(@RequestHeader(USER_ID) long userId,
                                   @PathVariable long requestId) {
         log.debug("GET request: single item request ID {}, user ID {}", requestId, userId);
-        return itemRequestMapper.toDto(itemRequestService.getRequestById(userId, requestId),
-                itemService.getItemsByRequestId(requestId));
+        ItemRequest itemRequest = itemRequestService.getRequestById(userId, requestId);
+        if (itemRequest.getRequesterId() != userId) {
+            return itemRequestMapper.toDto(itemRequest, itemService.getItemsByRequestId(requestId));
+        }
+        return itemRequestMapper.toDto(itemRequest, itemService.getItemsByRequestId(requestId),
+                requestMatchingService.getCandidates(List.of(requestId))
+                        .getOrDefault(requestId, Collections.emptyList()));
     }
 
     @PostMapping
@@ -3,8 +3,12 @@ package ru.practicum.shareit.request;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.dto.RequestCandidateDto;
+import ru.practicum.shareit.request.feed.RequestFeedEntry;
+import ru.practicum.shareit.request.matching.RequestCandidate;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -38,6 +42,39 @@ public class ItemRequestMapper {
         return itemRequestDto;
     }
 
+    public ItemRequestDto toDto(ItemRequest itemRequest, List<Item> items, List<RequestCandidate> candidates) {
+        ItemRequestDto itemRequestDto = toDto(itemRequest, items);
+        itemRequestDto.setCandidates(candidates.stream().map(this::toCandidateDto).collect(Collectors.toList()));
+        return itemRequestDto;
+    }
+
+    public ItemRequestDto toDto(RequestFeedEntry entry) {
+        return ItemRequestDto.builder()
+                .id(entry.getRequestId())
+                .description(entry.getDescription())
+                .created(entry.getCreated())
+                .items(entry.getItems().stream()
+                        .map(item -> ItemDto.builder()
+                                .id(item.getId())
+                                .name(item.getName())
+                                .description(item.getDescription())
+                                .available(item.getAvailable())
+                                .requestId(entry.getRequestId())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    public RequestCandidateDto toCandidateDto(RequestCandidate candidate) {
+        return RequestCandidateDto.builder()
+                .id(candidate.getItemId())
+                .name(candidate.getName())
+                .description(candidate.getDescription())
+                .available(candidate.getAvailable())
+                .score(candidate.getScore())
+                .build();
+    }
+
     public ItemRequestDto toDto(ItemRequest itemRequest) {
         return ItemRequestDto.builder()
                 .id(itemRequest.getId())
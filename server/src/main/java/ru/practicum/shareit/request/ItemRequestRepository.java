@@ -1,12 +1,24 @@
 package ru.practicum.shareit.request;
 
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
-    List<ItemRequest> findAllByRequesterIdNot(long requesterId, Pageable pageable);
-
     List<ItemRequest> findAllByRequesterIdOrderByCreatedDesc(long requesterId);
+
+    List<ItemRequest> findAllByCreatedAfter(LocalDateTime created);
+
+    /**
+     * Locks the request row; waits for transactions still adding items for the request, as their foreign keys hold a
+     * share lock on it.
+     */
+    @Query(value = "select id from requests where id = :requestId for update", nativeQuery = true)
+    Optional<Long> lockById(long requestId);
+
+    @Query("select coalesce(max(r.id), 0) from ItemRequest r")
+    long findLastId();
 }
@@ -14,4 +14,5 @@ public class ItemRequestDto {
     private String description;
     private LocalDateTime created;
     private List<ItemDto> items;
+    private List<RequestCandidateDto> candidates;
 }
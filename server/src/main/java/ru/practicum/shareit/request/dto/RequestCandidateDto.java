@@ -0,0 +1,14 @@
+package ru.practicum.shareit.request.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RequestCandidateDto {
+    private long id;
+    private String name;
+    private String description;
+    private Boolean available;
+    private double score;
+}
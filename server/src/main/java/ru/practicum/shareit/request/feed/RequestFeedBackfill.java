@@ -0,0 +1,60 @@
+package ru.practicum.shareit.request.feed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Creates feed entries for requests added outside of the server; on the first run after the feed is introduced,
+ * for every existing request. Later runs only look at requests with IDs above the last ID seen at the start of the
+ * run before: IDs are assigned on insert, not on commit, so a request committed up to one run late is still found.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestFeedBackfill {
+    private final RequestFeedService feedService;
+    private final RequestFeedProperties properties;
+
+    private long scannedAfter;
+    private long lastSeenRequestId;
+
+    /**
+     * The first run scans all requests, so it waits until the server is started instead of holding up startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        backfill();
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.requests.feed.backfill-interval:60000}",
+            initialDelayString = "${shareit.requests.feed.backfill-interval:60000}")
+    public synchronized void backfill() {
+        int created = 0;
+        List<Long> requestIds;
+        try {
+            long lastRequestId = feedService.getLastRequestId();
+            do {
+                requestIds = feedService.getRequestIdsWithoutEntry(scannedAfter, properties.getBackfillBatchSize());
+                for (long requestId : requestIds) {
+                    feedService.createEntry(requestId);
+                    created++;
+                }
+            } while (requestIds.size() == properties.getBackfillBatchSize());
+            scannedAfter = lastSeenRequestId;
+            lastSeenRequestId = lastRequestId;
+        } catch (DataAccessException e) {
+            log.error("Request feed entries are not backfilled, will retry on the next run", e);
+        }
+
+        if (created > 0) {
+            log.info("Created {} request feed entries", created);
+        }
+    }
+}
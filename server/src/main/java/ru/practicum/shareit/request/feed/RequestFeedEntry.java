@@ -0,0 +1,66 @@
+package ru.practicum.shareit.request.feed;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A request together with the items added for it, as {@code GET /requests/all} returns them.
+ */
+@Entity
+@Table(name = "request_feed")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestFeedEntry implements Persistable<Long> {
+    @Id
+    @Column(name = "request_id")
+    private long requestId;
+
+    @Column(name = "requester_id", nullable = false)
+    private long requesterId;
+
+    @Column(nullable = false)
+    private String description;
+
+    @Column(nullable = false)
+    private LocalDateTime created;
+
+    @Column(nullable = false)
+    @Convert(converter = RequestFeedItemsConverter.class)
+    @Builder.Default
+    private List<RequestFeedItem> items = new ArrayList<>();
+
+    /**
+     * The ID is assigned, so saving a new entry has to be told apart from updating one.
+     */
+    @Transient
+    @Builder.Default
+    private boolean isNew = true;
+
+    @Override
+    public Long getId() {
+        return requestId;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+}
@@ -0,0 +1,25 @@
+package ru.practicum.shareit.request.feed;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.practicum.shareit.item.model.Item;
+
+/**
+ * An item added for a request, as shown in the request feed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestFeedItem {
+    private long id;
+    private String name;
+    private String description;
+    private Boolean available;
+
+    public static RequestFeedItem of(Item item) {
+        return new RequestFeedItem(item.getId(), item.getName(), item.getDescription(), item.getAvailable());
+    }
+}
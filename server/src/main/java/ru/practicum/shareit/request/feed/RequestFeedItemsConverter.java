@@ -0,0 +1,37 @@
+package ru.practicum.shareit.request.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.List;
+
+/**
+ * Stores the items of a feed entry as a JSON array, so a page of the feed is read without joining {@code items}.
+ */
+@Converter
+public class RequestFeedItemsConverter implements AttributeConverter<List<RequestFeedItem>, String> {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<List<RequestFeedItem>> ITEMS = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(List<RequestFeedItem> items) {
+        try {
+            return MAPPER.writeValueAsString(items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Request feed items cannot be serialized", e);
+        }
+    }
+
+    @Override
+    public List<RequestFeedItem> convertToEntityAttribute(String json) {
+        try {
+            return MAPPER.readValue(json, ITEMS);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Request feed items cannot be deserialized", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.request.feed;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("shareit.requests.feed")
+public class RequestFeedProperties {
+    /**
+     * How often, in milliseconds, feed entries are created for requests added outside of the server.
+     */
+    private long backfillInterval = 60000;
+
+    /**
+     * Requests looked up per backfill query.
+     */
+    private int backfillBatchSize = 500;
+}
@@ -0,0 +1,34 @@
+package ru.practicum.shareit.request.feed;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface RequestFeedRepository extends JpaRepository<RequestFeedEntry, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f from RequestFeedEntry f where f.requestId = :requestId")
+    Optional<RequestFeedEntry> findByIdForUpdate(long requestId);
+
+    List<RequestFeedEntry> findAllByRequesterIdNotOrderByCreatedDescRequestIdDesc(long requesterId,
+                                                                                 Pageable pageable);
+
+    /**
+     * The page after the entry with the given {@code created} and {@code requestId}; the row comparison lets
+     * {@code ix_request_feed_created} start right after it instead of skipping the previous pages.
+     */
+    @Query(value = "select * from request_feed "
+            + "where (created, request_id) < (:created, :requestId) and requester_id <> :requesterId "
+            + "order by created desc, request_id desc limit :limit", nativeQuery = true)
+    List<RequestFeedEntry> findPageBefore(LocalDateTime created, long requestId, long requesterId, int limit);
+
+    @Query(value = "select r.id from requests r "
+            + "where r.id > :afterId and not exists (select 1 from request_feed f where f.request_id = r.id) "
+            + "order by r.id limit :limit", nativeQuery = true)
+    List<Long> findRequestIdsWithoutEntry(long afterId, int limit);
+}
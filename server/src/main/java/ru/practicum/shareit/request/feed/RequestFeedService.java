@@ -0,0 +1,37 @@
+package ru.practicum.shareit.request.feed;
+
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.ItemRequest;
+
+import java.util.List;
+
+public interface RequestFeedService {
+    /**
+     * Requests of other users, newest first.
+     */
+    List<RequestFeedEntry> getFeed(long userId, int from, int size);
+
+    /**
+     * Requests of other users created before the request with the given ID, newest first.
+     */
+    List<RequestFeedEntry> getFeedBefore(long userId, long requestId, int size);
+
+    void addEntry(ItemRequest itemRequest);
+
+    /**
+     * Adds or replaces the item in the entry of its request, if it was added for one.
+     */
+    void onItemSaved(Item item);
+
+    /**
+     * Creates the entry of a request added outside of the server.
+     */
+    void createEntry(long requestId);
+
+    /**
+     * Requests with an ID greater than {@code afterId} that have no entry, in the order of their IDs.
+     */
+    List<Long> getRequestIdsWithoutEntry(long afterId, int limit);
+
+    long getLastRequestId();
+}
@@ -0,0 +1,107 @@
+package ru.practicum.shareit.request.feed;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.ItemRequestRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@code request_feed} in step with {@code requests} and the items added for them: an entry is created with
+ * its request and updated under a lock whenever an item of the request is added or edited. Entries missing for
+ * requests added outside of the server are created by {@link RequestFeedBackfill} under a lock on the request row,
+ * which waits for transactions still adding items for the request, so no item is left out.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed(value = "shareit.service", histogram = true)
+@Transactional(readOnly = true)
+public class RequestFeedServiceImpl implements RequestFeedService {
+    private final RequestFeedRepository feedRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final ItemRepository itemRepository;
+
+    @Override
+    public List<RequestFeedEntry> getFeed(long userId, int from, int size) {
+        return feedRepository.findAllByRequesterIdNotOrderByCreatedDescRequestIdDesc(userId,
+                PageRequest.of(from / size, size));
+    }
+
+    @Override
+    public List<RequestFeedEntry> getFeedBefore(long userId, long requestId, int size) {
+        RequestFeedEntry last = feedRepository.findById(requestId)
+                .orElseThrow(() -> new NotFoundException(String.format("Request ID %d is not found", requestId)));
+        return feedRepository.findPageBefore(last.getCreated(), last.getRequestId(), userId, size);
+    }
+
+    @Override
+    @Transactional
+    public void addEntry(ItemRequest itemRequest) {
+        feedRepository.save(RequestFeedEntry.builder()
+                .requestId(itemRequest.getId())
+                .requesterId(itemRequest.getRequesterId())
+                .description(itemRequest.getDescription())
+                .created(itemRequest.getCreated())
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public void onItemSaved(Item item) {
+        if (item.getRequestId() == null) {
+            return;
+        }
+        // a missing entry is created later and sees this item then
+        feedRepository.findByIdForUpdate(item.getRequestId()).ifPresent(entry -> {
+            List<RequestFeedItem> items = entry.getItems().stream()
+                    .filter(feedItem -> feedItem.getId() != item.getId())
+                    .collect(Collectors.toCollection(ArrayList::new));
+            items.add(RequestFeedItem.of(item));
+            items.sort(Comparator.comparingLong(RequestFeedItem::getId));
+            entry.setItems(items);
+            feedRepository.save(entry);
+        });
+    }
+
+    @Override
+    @Transactional
+    public void createEntry(long requestId) {
+        itemRequestRepository.lockById(requestId);
+        if (feedRepository.existsById(requestId)) {
+            return;
+        }
+        itemRequestRepository.findById(requestId).ifPresent(itemRequest -> {
+            RequestFeedEntry entry = RequestFeedEntry.builder()
+                    .requestId(itemRequest.getId())
+                    .requesterId(itemRequest.getRequesterId())
+                    .description(itemRequest.getDescription())
+                    .created(itemRequest.getCreated())
+                    .items(itemRepository.findAllByRequestId(requestId).stream()
+                            .sorted(Comparator.comparingLong(Item::getId))
+                            .map(RequestFeedItem::of)
+                            .collect(Collectors.toList()))
+                    .build();
+            feedRepository.save(entry);
+        });
+    }
+
+    @Override
+    public List<Long> getRequestIdsWithoutEntry(long afterId, int limit) {
+        return feedRepository.findRequestIdsWithoutEntry(afterId, limit);
+    }
+
+    @Override
+    public long getLastRequestId() {
+        return itemRequestRepository.findLastId();
+    }
+}
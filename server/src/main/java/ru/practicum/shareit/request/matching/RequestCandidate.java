@@ -0,0 +1,16 @@
+package ru.practicum.shareit.request.matching;
+
+import lombok.Value;
+
+/**
+ * A matched item with the fields shown to the requester.
+ */
+@Value
+public class RequestCandidate {
+    long requestId;
+    long itemId;
+    String name;
+    String description;
+    Boolean available;
+    double score;
+}
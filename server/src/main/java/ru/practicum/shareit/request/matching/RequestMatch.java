@@ -0,0 +1,70 @@
+package ru.practicum.shareit.request.matching;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * An item found by {@link RequestMatchingService} for a request it was not added for.
+ */
+@Entity
+@Table(name = "request_matches")
+@IdClass(RequestMatch.Key.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestMatch implements Persistable<RequestMatch.Key> {
+    @Id
+    @Column(name = "request_id")
+    private long requestId;
+
+    @Id
+    @Column(name = "item_id")
+    private long itemId;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Column(nullable = false)
+    private LocalDateTime created;
+
+    /**
+     * The ID is assigned, so saving a new match has to be told apart from updating one.
+     */
+    @Transient
+    @Builder.Default
+    private boolean isNew = true;
+
+    @Override
+    public Key getId() {
+        return new Key(requestId, itemId);
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private long requestId;
+        private long itemId;
+    }
+}
@@ -0,0 +1,102 @@
+package ru.practicum.shareit.request.matching;
+
+import lombok.Value;
+import ru.practicum.shareit.request.ItemRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Open requests by the words of their descriptions. Matching an item looks up only the requests sharing a word with
+ * it, so its cost depends on the item text rather than on the number of open requests.
+ */
+public class RequestMatchIndex {
+    private final Map<Long, IndexedRequest> requests = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> requestsByToken = new ConcurrentHashMap<>();
+
+    public synchronized void add(ItemRequest request) {
+        Set<String> tokens = RequestTokenizer.tokenize(request.getDescription());
+        if (tokens.isEmpty() || requests.containsKey(request.getId())) {
+            return;
+        }
+        requests.put(request.getId(),
+                new IndexedRequest(request.getId(), request.getRequesterId(), request.getCreated(), tokens));
+        for (String token : tokens) {
+            requestsByToken.computeIfAbsent(token, t -> ConcurrentHashMap.newKeySet()).add(request.getId());
+        }
+    }
+
+    public synchronized int removeCreatedBefore(LocalDateTime created) {
+        List<IndexedRequest> expired = new ArrayList<>();
+        for (IndexedRequest request : requests.values()) {
+            if (request.getCreated().isBefore(created)) {
+                expired.add(request);
+            }
+        }
+        for (IndexedRequest request : expired) {
+            requests.remove(request.getId());
+            for (String token : request.getTokens()) {
+                requestsByToken.computeIfPresent(token, (t, ids) -> {
+                    ids.remove(request.getId());
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+        return expired.size();
+    }
+
+    /**
+     * Scores each request sharing a word with the text by the share of its words the text contains.
+     *
+     * @param excludedRequesterId requests of this user, the owner of the item, are skipped
+     * @param excludedRequestId   the request the item already answers, if any
+     */
+    public List<Match> match(String text, long excludedRequesterId, Long excludedRequestId, double minScore,
+                             int limit) {
+        Map<Long, Integer> shared = new HashMap<>();
+        for (String token : RequestTokenizer.tokenize(text)) {
+            for (long requestId : requestsByToken.getOrDefault(token, Set.of())) {
+                shared.merge(requestId, 1, Integer::sum);
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        shared.forEach((requestId, count) -> {
+            IndexedRequest request = requests.get(requestId);
+            if (request == null || request.getRequesterId() == excludedRequesterId
+                    || requestId.equals(excludedRequestId)) {
+                return;
+            }
+            double score = (double) count / request.getTokens().size();
+            if (score >= minScore) {
+                matches.add(new Match(requestId, score));
+            }
+        });
+        matches.sort(Comparator.comparingDouble(Match::getScore).reversed().thenComparingLong(Match::getRequestId));
+        return matches.size() > limit ? matches.subList(0, limit) : matches;
+    }
+
+    public int size() {
+        return requests.size();
+    }
+
+    @Value
+    public static class Match {
+        long requestId;
+        double score;
+    }
+
+    @Value
+    private static class IndexedRequest {
+        long id;
+        long requesterId;
+        LocalDateTime created;
+        Set<String> tokens;
+    }
+}
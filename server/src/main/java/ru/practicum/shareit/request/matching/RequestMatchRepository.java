@@ -0,0 +1,16 @@
+package ru.practicum.shareit.request.matching;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RequestMatchRepository extends JpaRepository<RequestMatch, RequestMatch.Key> {
+    @Query("select new ru.practicum.shareit.request.matching.RequestCandidate("
+            + "m.requestId, i.id, i.name, i.description, i.available, m.score) "
+            + "from RequestMatch m join Item i on i.id = m.itemId "
+            + "where m.requestId in :requestIds "
+            + "order by m.requestId, m.score desc, i.id")
+    List<RequestCandidate> findCandidatesByRequestIdIn(Collection<Long> requestIds);
+}
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.request.matching;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(RequestMatchingProperties.class)
+public class RequestMatchingConfig {
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.request.matching;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("shareit.requests.matching")
+public class RequestMatchingProperties {
+    /**
+     * Requests are matched against new items for this long after they are created.
+     */
+    private Duration openFor = Duration.ofDays(30);
+
+    /**
+     * Share of the words of a request an item has to contain to be matched to it.
+     */
+    private double minScore = 0.5;
+
+    /**
+     * Requests a single new item is matched to, best scores first.
+     */
+    private int maxRequestsPerItem = 5;
+
+    /**
+     * Candidates returned with a request, best scores first.
+     */
+    private int maxCandidatesPerRequest = 10;
+
+    /**
+     * How often, in milliseconds, requests added through other instances are indexed and expired ones dropped.
+     */
+    private long refreshInterval = 60000;
+
+    /**
+     * Requests created this long before the previous refresh are read again, so that a request committed after a
+     * refresh read past its creation time is not missed.
+     */
+    private Duration refreshOverlap = Duration.ofMinutes(1);
+}
@@ -0,0 +1,25 @@
+package ru.practicum.shareit.request.matching;
+
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.ItemRequest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface RequestMatchingService {
+    /**
+     * Makes a new request available for matching once its transaction commits.
+     */
+    void indexRequest(ItemRequest itemRequest);
+
+    /**
+     * Links a new item to the open requests it matches, in the transaction adding the item.
+     */
+    void matchItem(Item item);
+
+    /**
+     * Candidates of each request, best scores first; requests without candidates are left out.
+     */
+    Map<Long, List<RequestCandidate>> getCandidates(Collection<Long> requestIds);
+}
@@ -0,0 +1,121 @@
+package ru.practicum.shareit.request.matching;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.ItemRequestRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Matches new items against the requests created within {@code open-for}, held in a {@link RequestMatchIndex}.
+ * Requests added on this instance are indexed when they commit, requests added through other instances on the next
+ * {@link #refresh}, which also drops the expired ones. Items are matched only when they are added: a request does
+ * not pick up items that existed before it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Timed(value = "shareit.service", histogram = true)
+@Transactional(readOnly = true)
+public class RequestMatchingServiceImpl implements RequestMatchingService {
+    private final ItemRequestRepository itemRequestRepository;
+    private final RequestMatchRepository requestMatchRepository;
+    private final RequestMatchingProperties properties;
+    private final RequestMatchIndex index = new RequestMatchIndex();
+
+    private volatile LocalDateTime refreshedUntil;
+
+    @Override
+    public void indexRequest(ItemRequest itemRequest) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    index.add(itemRequest);
+                }
+            });
+        } else {
+            index.add(itemRequest);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void matchItem(Item item) {
+        if (!Boolean.TRUE.equals(item.getAvailable())) {
+            return;
+        }
+        List<RequestMatchIndex.Match> matches = index.match(item.getName() + " " + item.getDescription(),
+                item.getOwnerId(), item.getRequestId(), properties.getMinScore(), properties.getMaxRequestsPerItem());
+        if (matches.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        requestMatchRepository.saveAll(matches.stream()
+                .map(match -> RequestMatch.builder()
+                        .requestId(match.getRequestId())
+                        .itemId(item.getId())
+                        .score(match.getScore())
+                        .created(now)
+                        .build())
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Map<Long, List<RequestCandidate>> getCandidates(Collection<Long> requestIds) {
+        Map<Long, List<RequestCandidate>> candidates = new HashMap<>();
+        if (requestIds.isEmpty()) {
+            return candidates;
+        }
+        for (RequestCandidate candidate : requestMatchRepository.findCandidatesByRequestIdIn(requestIds)) {
+            List<RequestCandidate> ofRequest = candidates.computeIfAbsent(candidate.getRequestId(),
+                    id -> new ArrayList<>());
+            if (ofRequest.size() < properties.getMaxCandidatesPerRequest()) {
+                ofRequest.add(candidate);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Indexes the requests created since the previous run, all open requests on the first one, and drops the
+     * expired ones. The first run starts once the server is ready, so it does not hold up startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${shareit.requests.matching.refresh-interval:60000}",
+            initialDelayString = "${shareit.requests.matching.refresh-interval:60000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime openSince = now.minus(properties.getOpenFor());
+        LocalDateTime from = refreshedUntil == null ? openSince : refreshedUntil.minus(properties.getRefreshOverlap());
+        try {
+            itemRequestRepository.findAllByCreatedAfter(from.isAfter(openSince) ? from : openSince)
+                    .forEach(index::add);
+            refreshedUntil = now;
+        } catch (DataAccessException e) {
+            log.error("Open item requests are not refreshed, will retry on the next run", e);
+        }
+        int expired = index.removeCreatedBefore(openSince);
+        log.debug("Request match index holds {} open requests, {} expired", index.size(), expired);
+    }
+}
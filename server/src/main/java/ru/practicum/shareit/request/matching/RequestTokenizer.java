@@ -0,0 +1,45 @@
+package ru.practicum.shareit.request.matching;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Splits request descriptions and item texts into comparable words: lower case, letters and digits only, without
+ * short and common words, with a light suffix stripping so that «дрель» matches «дрели» and «drill» matches «drills».
+ */
+public final class RequestTokenizer {
+    private static final int MIN_LENGTH = 3;
+    private static final int MIN_STEM_LENGTH = 3;
+    private static final String ENDINGS = "аеёиоуыэюяйь";
+    private static final Set<String> STOP_WORDS = Set.of(
+            "для", "что", "или", "как", "нужен", "нужна", "нужно", "нужны", "ищу", "есть", "кто", "может", "будет",
+            "the", "and", "for", "with", "need", "needs", "want", "looking", "anyone", "some");
+
+    private RequestTokenizer() {
+    }
+
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new TreeSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.length() >= MIN_LENGTH && !STOP_WORDS.contains(word)) {
+                tokens.add(stem(word));
+            }
+        }
+        return tokens;
+    }
+
+    static String stem(String word) {
+        int end = word.length();
+        while (end > MIN_STEM_LENGTH && ENDINGS.indexOf(word.charAt(end - 1)) >= 0) {
+            end--;
+        }
+        if (end == word.length() && end > MIN_STEM_LENGTH && word.charAt(end - 1) == 's') {
+            end--;
+        }
+        return word.substring(0, end);
+    }
+}
@@ -1,25 +1,30 @@
 package ru.practicum.shareit.request.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.outbox.ChangeEventPublisher;
+import ru.practicum.shareit.outbox.ChangeEventType;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.request.feed.RequestFeedService;
+import ru.practicum.shareit.request.matching.RequestMatchingService;
 import ru.practicum.shareit.user.UserRepository;
 
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "shareit.service", histogram = true)
+@Transactional(readOnly = true)
 public class ItemRequestServiceImpl implements ItemRequestService {
     private final ItemRequestRepository itemRequestRepository;
     private final UserRepository userRepository;
-
-    @Override
-    public List<ItemRequest> getAllRequests(long userId, Pageable pageable) {
-        return itemRequestRepository.findAllByRequesterIdNot(userId, pageable);
-    }
+    private final ChangeEventPublisher changeEventPublisher;
+    private final RequestMatchingService requestMatchingService;
+    private final RequestFeedService requestFeedService;
 
     @Override
     public List<ItemRequest> getAllByRequesterId(long requesterId) {
@@ -39,11 +44,16 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     }
 
     @Override
+    @Transactional
     public ItemRequest addRequest(ItemRequest itemRequest) {
         if (!userRepository.existsById(itemRequest.getRequesterId())) {
             throw new NotFoundException(String.format("User ID %d is not found", itemRequest.getRequesterId()));
         }
 
-        return itemRequestRepository.save(itemRequest);
+        ItemRequest savedRequest = itemRequestRepository.save(itemRequest);
+        requestFeedService.addEntry(savedRequest);
+        requestMatchingService.indexRequest(savedRequest);
+        changeEventPublisher.publish(savedRequest, ChangeEventType.CREATED);
+        return savedRequest;
     }
 }
@@ -0,0 +1,67 @@
+package ru.practicum.shareit.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * A client span per JDBC execution, fed by the datasource proxy. Statements outside a trace (schema init, background
+ * work) are not traced, so they do not start traces of their own.
+ */
+@RequiredArgsConstructor
+public class JdbcTracingListener implements QueryExecutionListener {
+    private static final String SPAN = JdbcTracingListener.class.getName() + ".span";
+    private static final int MAX_STATEMENT_LENGTH = 2000;
+
+    private final Tracer tracer;
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!Span.current().getSpanContext().isValid()) {
+            return;
+        }
+        String statement = queryInfoList.stream()
+                .map(QueryInfo::getQuery)
+                .collect(Collectors.joining(";\n"));
+        Span span = tracer.spanBuilder(operation(statement))
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute("db.name", execInfo.getDataSourceName())
+                .setAttribute("db.statement", statement.length() > MAX_STATEMENT_LENGTH
+                        ? statement.substring(0, MAX_STATEMENT_LENGTH) : statement)
+                .startSpan();
+        execInfo.addCustomValue(SPAN, span);
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Span span = execInfo.getCustomValue(SPAN, Span.class);
+        if (span == null) {
+            return;
+        }
+        if (execInfo.isBatch()) {
+            span.setAttribute("db.batch_size", execInfo.getBatchSize());
+        }
+        if (!execInfo.isSuccess()) {
+            if (execInfo.getThrowable() != null) {
+                span.recordException(execInfo.getThrowable());
+            }
+            span.setStatus(StatusCode.ERROR);
+        }
+        span.end();
+    }
+
+    private static String operation(String statement) {
+        String trimmed = statement.stripLeading();
+        int end = trimmed.indexOf(' ');
+        return (end < 0 ? trimmed : trimmed.substring(0, end)).toUpperCase(Locale.ROOT);
+    }
+}
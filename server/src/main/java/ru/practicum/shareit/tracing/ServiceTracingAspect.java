@@ -0,0 +1,36 @@
+package ru.practicum.shareit.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Wraps every {@code @Service} method in a span named {@code Class.method}, so the statements below it group by the
+ * business operation that issued them.
+ */
+@Aspect
+@RequiredArgsConstructor
+public class ServiceTracingAspect {
+    private final Tracer tracer;
+
+    @Around("@within(org.springframework.stereotype.Service)")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        Span span = tracer.spanBuilder(joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
+                        + joinPoint.getSignature().getName())
+                .startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
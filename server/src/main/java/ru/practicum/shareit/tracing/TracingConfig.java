@@ -0,0 +1,79 @@
+package ru.practicum.shareit.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporter;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@EnableConfigurationProperties(TracingProperties.class)
+public class TracingConfig {
+    /**
+     * Span processors defined elsewhere in the context (tests register an in-memory one) are added to the exporter
+     * selected by {@code shareit.tracing.exporter}.
+     */
+    @Bean(destroyMethod = "close")
+    public OpenTelemetrySdk openTelemetry(TracingProperties properties, ObjectProvider<SpanProcessor> spanProcessors) {
+        SdkTracerProviderBuilder tracerProvider = SdkTracerProvider.builder()
+                .setResource(Resource.getDefault().merge(Resource.create(
+                        Attributes.of(AttributeKey.stringKey("service.name"), properties.getServiceName()))))
+                .setSampler(Sampler.parentBased(Sampler.traceIdRatioBased(properties.getSampleRatio())));
+        switch (properties.getExporter()) {
+            case LOGGING:
+                tracerProvider.addSpanProcessor(SimpleSpanProcessor.create(LoggingSpanExporter.create()));
+                break;
+            case OTLP:
+                tracerProvider.addSpanProcessor(BatchSpanProcessor.builder(OtlpGrpcSpanExporter.builder()
+                        .setEndpoint(properties.getOtlpEndpoint())
+                        .build()).build());
+                break;
+            default:
+                break;
+        }
+        spanProcessors.orderedStream().forEach(tracerProvider::addSpanProcessor);
+        return OpenTelemetrySdk.builder()
+                .setTracerProvider(tracerProvider.build())
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
+    }
+
+    @Bean
+    public Tracer tracer(OpenTelemetrySdk openTelemetry) {
+        return openTelemetry.getTracer("ru.practicum.shareit.server");
+    }
+
+    @Bean
+    public FilterRegistrationBean<TracingFilter> tracingFilter(OpenTelemetrySdk openTelemetry, Tracer tracer) {
+        FilterRegistrationBean<TracingFilter> registration =
+                new FilterRegistrationBean<>(new TracingFilter(openTelemetry.getPropagators(), tracer));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public ServiceTracingAspect serviceTracingAspect(Tracer tracer) {
+        return new ServiceTracingAspect(tracer);
+    }
+
+    @Bean
+    public JdbcTracingListener jdbcTracingListener(Tracer tracer) {
+        return new JdbcTracingListener(tracer);
+    }
+}
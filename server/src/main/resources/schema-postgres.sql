@@ -0,0 +1,133 @@
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(512) NOT NULL,
+    CONSTRAINT pk_user PRIMARY KEY (id),
+    CONSTRAINT UQ_USER_EMAIL UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS requests (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    description VARCHAR NOT NULL,
+    requester_id BIGINT NOT NULL REFERENCES users (id),
+    created TIMESTAMP NOT NULL,
+    CONSTRAINT pk_request PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS items (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR NOT NULL,
+    is_available BOOLEAN NOT NULL,
+    owner_id BIGINT NOT NULL REFERENCES users (id),
+    request_id BIGINT REFERENCES requests (id),
+    CONSTRAINT pk_item PRIMARY KEY (id)
+);
+
+-- Range partitioned by start_time; partitions, the archive and the overflow split are managed by
+-- BookingPartitionMaintenance. Until its first run everything lands in bookings_overflow.
+CREATE SEQUENCE IF NOT EXISTS bookings_id_seq;
+
+CREATE TABLE IF NOT EXISTS bookings (
+    id BIGINT NOT NULL DEFAULT nextval('bookings_id_seq'),
+    start_time TIMESTAMP NOT NULL,
+    end_time TIMESTAMP NOT NULL,
+    item_id BIGINT NOT NULL REFERENCES items (id),
+    booker_id BIGINT NOT NULL REFERENCES users (id),
+    status VARCHAR(8) NOT NULL,
+    CONSTRAINT pk_booking PRIMARY KEY (id, start_time)
+) PARTITION BY RANGE (start_time);
+
+ALTER SEQUENCE bookings_id_seq OWNED BY bookings.id;
+
+CREATE INDEX IF NOT EXISTS ix_bookings_booker_start ON bookings (booker_id, start_time);
+
+CREATE INDEX IF NOT EXISTS ix_bookings_item_start ON bookings (item_id, start_time);
+
+-- Comment eligibility: approved bookings of an item by its booker that have ended.
+CREATE INDEX IF NOT EXISTS ix_bookings_item_booker_end ON bookings (item_id, booker_id, end_time);
+
+CREATE TABLE IF NOT EXISTS bookings_overflow PARTITION OF bookings FOR VALUES FROM (MINVALUE) TO (MAXVALUE);
+
+CREATE TABLE IF NOT EXISTS comments (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    text VARCHAR NOT NULL,
+    item_id BIGINT NOT NULL REFERENCES items (id),
+    author_id BIGINT NOT NULL REFERENCES users (id),
+    created TIMESTAMP NOT NULL,
+    CONSTRAINT pk_comment PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS ix_comments_item_created ON comments (item_id, created);
+
+-- Last and next booking per item, maintained by ItemBookingSummaryServiceImpl. Booking IDs are not foreign keys
+-- because bookings may be partitioned.
+CREATE TABLE IF NOT EXISTS item_booking_summary (
+    item_id BIGINT NOT NULL REFERENCES items (id),
+    last_booking_id BIGINT,
+    last_start_time TIMESTAMP,
+    last_end_time TIMESTAMP,
+    last_booker_id BIGINT,
+    next_booking_id BIGINT,
+    next_start_time TIMESTAMP,
+    next_end_time TIMESTAMP,
+    next_booker_id BIGINT,
+    CONSTRAINT pk_item_booking_summary PRIMARY KEY (item_id)
+);
+
+CREATE INDEX IF NOT EXISTS ix_item_booking_summary_next_start ON item_booking_summary (next_start_time);
+
+-- Booking changes not yet handled by every BookingEventListener, see BookingEventDispatcher.
+CREATE TABLE IF NOT EXISTS booking_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    type VARCHAR(16) NOT NULL,
+    booking_id BIGINT NOT NULL,
+    item_id BIGINT NOT NULL,
+    booker_id BIGINT NOT NULL,
+    owner_id BIGINT NOT NULL,
+    status VARCHAR(8) NOT NULL,
+    created TIMESTAMP NOT NULL,
+    delivered INT NOT NULL DEFAULT 0,
+    attempts INT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_booking_event PRIMARY KEY (id)
+);
+
+-- Changes of items, bookings and requests for external consumers, see ChangeEventRelay. Published events are kept
+-- for shareit.outbox.retention.
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    entity VARCHAR(16) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    type VARCHAR(16) NOT NULL,
+    payload VARCHAR NOT NULL,
+    created TIMESTAMP NOT NULL,
+    published TIMESTAMP,
+    CONSTRAINT pk_outbox_event PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS ix_outbox_events_unpublished ON outbox_events (id) WHERE published IS NULL;
+CREATE INDEX IF NOT EXISTS ix_outbox_events_published ON outbox_events (published);
+
+-- Open requests indexed by RequestMatchingService.refresh.
+CREATE INDEX IF NOT EXISTS ix_requests_created ON requests (created);
+
+-- Items matched to requests they were not added for, see RequestMatchingService.
+CREATE TABLE IF NOT EXISTS request_matches (
+    request_id BIGINT NOT NULL REFERENCES requests (id),
+    item_id BIGINT NOT NULL REFERENCES items (id),
+    score DOUBLE PRECISION NOT NULL,
+    created TIMESTAMP NOT NULL,
+    CONSTRAINT pk_request_match PRIMARY KEY (request_id, item_id)
+);
+
+-- GET /requests/all read model, see RequestFeedService. Items hold a JSON array of the items added for the request.
+CREATE TABLE IF NOT EXISTS request_feed (
+    request_id BIGINT NOT NULL REFERENCES requests (id),
+    requester_id BIGINT NOT NULL,
+    description VARCHAR NOT NULL,
+    created TIMESTAMP NOT NULL,
+    items VARCHAR NOT NULL,
+    CONSTRAINT pk_request_feed PRIMARY KEY (request_id)
+);
+
+CREATE INDEX IF NOT EXISTS ix_request_feed_created ON request_feed (created DESC, request_id DESC);
@@ -12,6 +12,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.feed.BookingFeed;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.ItemMapper;
@@ -48,6 +49,9 @@ class BookingControllerIntegrationTest {
     @MockBean
     private ItemService itemService;
 
+    @MockBean
+    private BookingFeed bookingFeed;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -264,4 +268,13 @@ class BookingControllerIntegrationTest {
 
         verify(bookingService, times(1)).updateStatus(1, 1, true);
     }
-}
\ No newline at end of file
+
+    @Test
+    void subscribe_shouldReturnNotFound_ifUserNotFound() throws Exception {
+        when(userService.getUserById(1)).thenThrow(new NotFoundException("User ID 1 is not found"));
+
+        mockMvc.perform(get("/bookings/events").header(USER_ID, 1))
+                .andExpect(status().isNotFound());
+        verifyNoInteractions(bookingFeed);
+    }
+}
@@ -0,0 +1,111 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.metrics.SqlStatementCounter;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.practicum.shareit.metrics.SqlStatementsAssert.assertThatStatements;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingControllerSqlStatementsIntegrationTest {
+    private static final String USER_ID = "X-Sharer-User-Id";
+    private static final int BOOKINGS = 5;
+
+    private final MockMvc mockMvc;
+    private final SqlStatementCounter counter;
+    private final UserRepository userRepository;
+    private final ItemService itemService;
+    private final BookingService bookingService;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private User owner;
+    private User booker;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder().name("Owner").email("owner@ggg.gg").build());
+        for (int i = 0; i < BOOKINGS; i++) {
+            booker = userRepository.save(User.builder().name("Booker").email("booker" + i + "@ggg.gg").build());
+            Item item = itemService.addItem(Item.builder().name("Drill").description("Good drill").available(true)
+                    .ownerId(owner.getId()).build());
+            bookingService.addBooking(Booking.builder().item(item).booker(booker).status(BookingStatus.WAITING)
+                    .start(LocalDateTime.now().plusDays(i + 1)).end(LocalDateTime.now().plusDays(i + 2)).build());
+        }
+    }
+
+    @Test
+    void getByOwnerId_shouldLoadItemsAndBookersInOneQueryEach() throws Exception {
+        entityManagerFactory.getCache().evictAll();
+
+        try (SqlStatementCounter.Recording statements = counter.start()) {
+            mockMvc.perform(get("/bookings/owner").header(USER_ID, owner.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(BOOKINGS));
+
+            // user check, booking page and count, then items and bookers of the page
+            assertThatStatements(statements).hasAtMost(5).hasNoStatementRepeatedMoreThan(1);
+        }
+    }
+
+    @Test
+    void add_shouldLoadItemAndBookerOnce() throws Exception {
+        Item item = itemService.addItem(Item.builder().name("Saw").description("Sharp saw").available(true)
+                .ownerId(owner.getId()).build());
+
+        try (SqlStatementCounter.Recording statements = counter.start()) {
+            mockMvc.perform(post("/bookings").header(USER_ID, booker.getId())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"itemId\": " + item.getId() + ", "
+                                    + "\"start\": \"2030-01-01T10:00:00\", \"end\": \"2030-01-02T10:00:00\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.booker.id").value(booker.getId()));
+
+            // item, booker, booking, locked booking summary and its update, booking event
+            assertThatStatements(statements).hasAtMost(6).hasNoStatementRepeatedMoreThan(1);
+        }
+    }
+
+    @Test
+    void getByBookerId_shouldLoadItemsAndBookerInOneQueryEach() throws Exception {
+        User frequentBooker = userRepository.save(User.builder().name("Frequent").email("frequent@ggg.gg").build());
+        for (int i = 0; i < BOOKINGS; i++) {
+            Item item = itemService.addItem(Item.builder().name("Saw").description("Sharp saw").available(true)
+                    .ownerId(owner.getId()).build());
+            bookingService.addBooking(Booking.builder().item(item).booker(frequentBooker)
+                    .status(BookingStatus.WAITING)
+                    .start(LocalDateTime.now().plusDays(i + 1)).end(LocalDateTime.now().plusDays(i + 2)).build());
+        }
+        entityManagerFactory.getCache().evictAll();
+
+        try (SqlStatementCounter.Recording statements = counter.start()) {
+            mockMvc.perform(get("/bookings").header(USER_ID, frequentBooker.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(BOOKINGS));
+
+            // user check, booking page and count, then items and booker of the page
+            assertThatStatements(statements).hasAtMost(5).hasNoStatementRepeatedMoreThan(1);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingForItemDto;
+import ru.practicum.shareit.booking.summary.BookingSnapshot;
 import ru.practicum.shareit.item.ItemMapper;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
@@ -70,7 +71,7 @@ class BookingMapperTest {
         booking.setId(23L);
         BookingForItemDto bookingForItemDto = bookingForItemDto(23L, booker, item);
 
-        assertThat(bookingMapper.toDtoForItem(booking)).isEqualTo(bookingForItemDto);
+        assertThat(bookingMapper.toDtoForItem(item.getId(), BookingSnapshot.of(booking))).isEqualTo(bookingForItemDto);
     }
 
     private User user(long id) {
@@ -11,7 +11,6 @@ import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -118,11 +117,12 @@ class BookingRepositoryIntegrationTest {
     }
 
     @Test
-    void findAllByItemIdAndBookerIdAndStatusAndEndBefore() {
-        List<Booking> expected = List.of(bookingRepository.findById(1L).get(), bookingRepository.findById(5L).get());
-        List<Booking> actual = bookingRepository.findAllByItemIdAndBookerIdAndStatusAndEndBefore(
-                1, 2, BookingStatus.APPROVED, LocalDateTime.now());
-
-        assertThat(actual).isEqualTo(expected);
+    void existsByItemIdAndBookerIdAndStatusAndEndBefore() {
+        assertThat(bookingRepository.existsByItemIdAndBookerIdAndStatusAndEndBefore(
+                1, 2, BookingStatus.APPROVED, LocalDateTime.now())).isTrue();
+        assertThat(bookingRepository.existsByItemIdAndBookerIdAndStatusAndEndBefore(
+                1, 2, BookingStatus.APPROVED, LocalDateTime.now().minusYears(10))).isFalse();
+        assertThat(bookingRepository.existsByItemIdAndBookerIdAndStatusAndEndBefore(
+                2, 2, BookingStatus.APPROVED, LocalDateTime.now())).isFalse();
     }
 }
\ No newline at end of file
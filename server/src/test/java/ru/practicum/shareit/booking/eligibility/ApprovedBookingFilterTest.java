@@ -0,0 +1,104 @@
+package ru.practicum.shareit.booking.eligibility;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.event.BookingEvent;
+import ru.practicum.shareit.booking.event.BookingEventType;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApprovedBookingFilterTest {
+    private static final long PAIRS = 1000;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ApprovedBookingFilterProperties properties;
+    private ApprovedBookingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ApprovedBookingFilterProperties();
+        properties.setEnabled(true);
+        properties.setExpectedPairs(PAIRS);
+        filter = new ApprovedBookingFilter(jdbcTemplate, properties);
+    }
+
+    @Test
+    void mightHaveApprovedBooking_shouldReturnTrue_untilRebuilt() {
+        assertThat(filter.mightHaveApprovedBooking(1, 2)).isTrue();
+    }
+
+    @Test
+    void rebuild_shouldKeepEveryApprovedPairAndRejectMostOthers() throws Exception {
+        givenApprovedPairs(PAIRS);
+
+        filter.rebuild();
+
+        assertThat(LongStream.range(0, PAIRS)).allMatch(i -> filter.mightHaveApprovedBooking(i, i + 1));
+        long falsePositives = LongStream.range(0, PAIRS)
+                .filter(i -> filter.mightHaveApprovedBooking(i, i + 2))
+                .count();
+        assertThat(falsePositives).isLessThan(PAIRS * 3 / 100);
+    }
+
+    @Test
+    void onBookingEvents_shouldAddApprovedPairs() throws Exception {
+        givenApprovedPairs(1);
+        filter.rebuild();
+
+        filter.onBookingEvents(List.of(event(5, 6, BookingStatus.REJECTED), event(7, 8, BookingStatus.APPROVED)));
+
+        assertThat(filter.mightHaveApprovedBooking(5, 6)).isFalse();
+        assertThat(filter.mightHaveApprovedBooking(7, 8)).isTrue();
+    }
+
+    @Test
+    void rebuild_shouldDoNothing_ifDisabled() {
+        properties.setEnabled(false);
+
+        filter.rebuild();
+
+        assertThat(filter.mightHaveApprovedBooking(1, 2)).isTrue();
+    }
+
+    private void givenApprovedPairs(long pairs) throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        long[] row = {0};
+        when(resultSet.getLong(1)).thenAnswer(invocation -> row[0]);
+        when(resultSet.getLong(2)).thenAnswer(invocation -> row[0] + 1);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (row[0] = 0; row[0] < pairs; row[0]++) {
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(BookingStatus.APPROVED.name()));
+    }
+
+    private BookingEvent event(long itemId, long bookerId, BookingStatus status) {
+        return BookingEvent.builder()
+                .type(BookingEventType.STATUS_CHANGED)
+                .itemId(itemId)
+                .bookerId(bookerId)
+                .status(status)
+                .build();
+    }
+}
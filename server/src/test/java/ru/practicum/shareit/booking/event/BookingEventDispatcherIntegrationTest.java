@@ -0,0 +1,186 @@
+package ru.practicum.shareit.booking.event;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "shareit.bookings.events.sweep-delay=0s")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingEventDispatcherIntegrationTest {
+    private final BookingEventDispatcher dispatcher;
+    private final BookingEventRepository eventRepository;
+    private final RecordingListener listener;
+    private final CountingListener firstListener;
+    private final BookingService bookingService;
+    private final ItemService itemService;
+    private final UserRepository userRepository;
+
+    private User booker;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(User.builder().name("Owner").email("owner@email.com").build());
+        booker = userRepository.save(User.builder().name("Booker").email("booker@email.com").build());
+        item = itemService.addItem(Item.builder().name("Drill").description("Good drill").available(true)
+                .ownerId(owner.getId()).build());
+    }
+
+    @Test
+    void publish_shouldDeliverEventsAfterCommitAndDeleteThem() throws Exception {
+        Booking booking = addBooking();
+        bookingService.updateStatus(item.getOwnerId(), booking.getId(), true);
+
+        BookingEvent created = listener.next();
+        BookingEvent approved = listener.next();
+
+        assertThat(created.getType()).isEqualTo(BookingEventType.CREATED);
+        assertThat(created.getBookingId()).isEqualTo(booking.getId());
+        assertThat(created.getItemId()).isEqualTo(item.getId());
+        assertThat(created.getBookerId()).isEqualTo(booker.getId());
+        assertThat(created.getStatus()).isEqualTo(BookingStatus.WAITING);
+        assertThat(approved.getType()).isEqualTo(BookingEventType.STATUS_CHANGED);
+        assertThat(approved.getStatus()).isEqualTo(BookingStatus.APPROVED);
+        awaitNoEventsLeft();
+    }
+
+    @Test
+    void sweep_shouldRedeliverEvents_ifListenerFailed() throws Exception {
+        listener.failures.set(1);
+        Booking booking = addBooking();
+
+        assertThat(listener.next().getBookingId()).isEqualTo(booking.getId());
+        BookingEvent failed = awaitAttempt();
+        assertThat(failed.getBookingId()).isEqualTo(booking.getId());
+
+        dispatcher.sweep();
+
+        assertThat(listener.next().getId()).isEqualTo(failed.getId());
+        assertThat(eventRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void sweep_shouldNotRedeliverEvents_toListenersThatHandledThem() throws Exception {
+        listener.failures.set(1);
+        addBooking();
+        listener.next();
+        BookingEvent failed = awaitAttempt();
+        assertThat(failed.getDelivered()).isPositive();
+
+        dispatcher.sweep();
+
+        assertThat(listener.next().getId()).isEqualTo(failed.getId());
+        assertThat(firstListener.handled.get()).isEqualTo(1);
+        assertThat(eventRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void sweep_shouldSkipEvents_afterMaxAttempts() throws Exception {
+        listener.failures.set(Integer.MAX_VALUE);
+        addBooking();
+        listener.next();
+        awaitAttempt();
+
+        for (int i = 1; i < 10; i++) {
+            dispatcher.sweep();
+            listener.next();
+        }
+        dispatcher.sweep();
+
+        assertThat(listener.events.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(eventRepository.findAll()).singleElement()
+                .extracting(BookingEvent::getAttempts).isEqualTo(10);
+    }
+
+    private Booking addBooking() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        return bookingService.addBooking(Booking.builder().start(start).end(start.plusDays(1)).item(item)
+                .booker(booker).status(BookingStatus.WAITING).build());
+    }
+
+    private BookingEvent awaitAttempt() throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            List<BookingEvent> events = eventRepository.findAll();
+            if (!events.isEmpty() && events.get(0).getAttempts() > 0) {
+                return events.get(0);
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Failed delivery is not recorded");
+    }
+
+    private void awaitNoEventsLeft() throws InterruptedException {
+        for (int i = 0; i < 50 && eventRepository.count() > 0; i++) {
+            Thread.sleep(100);
+        }
+        assertThat(eventRepository.findAll()).isEmpty();
+    }
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+
+        @Bean
+        CountingListener countingListener() {
+            return new CountingListener();
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    static class CountingListener implements BookingEventListener {
+        private final AtomicInteger handled = new AtomicInteger();
+
+        @Override
+        public void onBookingEvents(List<BookingEvent> batch) {
+            handled.addAndGet(batch.size());
+        }
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    static class RecordingListener implements BookingEventListener {
+        private final BlockingQueue<BookingEvent> events = new LinkedBlockingQueue<>();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        @Override
+        public void onBookingEvents(List<BookingEvent> batch) {
+            events.addAll(new ArrayList<>(batch));
+            if (failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("Listener is down");
+            }
+        }
+
+        BookingEvent next() throws InterruptedException {
+            BookingEvent event = events.poll(5, TimeUnit.SECONDS);
+            assertThat(event).as("delivered event").isNotNull();
+            return event;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.booking.feed;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.hikari.maximum-pool-size=" + BookingFeedConnectionPoolIntegrationTest.POOL_SIZE,
+        "spring.datasource.hikari.connection-timeout=3000",
+        "shareit.bookings.feed.heartbeat-interval=3600000"})
+@DirtiesContext
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingFeedConnectionPoolIntegrationTest {
+    static final int POOL_SIZE = 2;
+
+    private final UserRepository userRepository;
+
+    @LocalServerPort
+    private int port;
+
+    private final List<HttpURLConnection> connections = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        connections.forEach(HttpURLConnection::disconnect);
+    }
+
+    @Test
+    void subscribe_shouldNotHoldConnection_whileStreaming() throws IOException {
+        User user = userRepository.save(User.builder().name("User").email("user@email.com").build());
+        for (int i = 0; i < POOL_SIZE * 2; i++) {
+            assertThat(open("/bookings/events", user.getId()).getResponseCode()).isEqualTo(200);
+        }
+
+        assertThat(open("/users/" + user.getId(), user.getId()).getResponseCode()).isEqualTo(200);
+    }
+
+    private HttpURLConnection open(String path, long userId) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + path)
+                .openConnection();
+        connection.setRequestProperty("X-Sharer-User-Id", String.valueOf(userId));
+        connection.setReadTimeout(5000);
+        connections.add(connection);
+        return connection;
+    }
+}
@@ -0,0 +1,132 @@
+package ru.practicum.shareit.booking.feed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.event.BookingEventType;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "shareit.bookings.feed.heartbeat-interval=3600000")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingFeedIntegrationTest {
+    private final BookingFeed feed;
+    private final BookingService bookingService;
+    private final ItemService itemService;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    @LocalServerPort
+    private int port;
+
+    private final List<HttpURLConnection> connections = new ArrayList<>();
+    private User owner;
+    private User booker;
+    private User stranger;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder().name("Owner").email("owner@email.com").build());
+        booker = userRepository.save(User.builder().name("Booker").email("booker@email.com").build());
+        stranger = userRepository.save(User.builder().name("Stranger").email("stranger@email.com").build());
+        item = itemService.addItem(Item.builder().name("Drill").description("Good drill").available(true)
+                .ownerId(owner.getId()).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        connections.forEach(HttpURLConnection::disconnect);
+    }
+
+    @Test
+    void subscribe_shouldStreamBookingChangesToBookerAndOwnerOnly() throws Exception {
+        BufferedReader ownerStream = subscribe(owner.getId());
+        BufferedReader bookerStream = subscribe(booker.getId());
+        subscribe(stranger.getId());
+        awaitSubscribers();
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Booking booking = bookingService.addBooking(Booking.builder().start(start).end(start.plusDays(1))
+                .item(item).booker(booker).status(BookingStatus.WAITING).build());
+        bookingService.updateStatus(owner.getId(), booking.getId(), true);
+
+        for (BufferedReader stream : List.of(ownerStream, bookerStream)) {
+            BookingFeedEvent created = nextEvent(stream);
+            BookingFeedEvent approved = nextEvent(stream);
+            assertThat(created.getType()).isEqualTo(BookingEventType.CREATED);
+            assertThat(created.getBookingId()).isEqualTo(booking.getId());
+            assertThat(created.getOwnerId()).isEqualTo(owner.getId());
+            assertThat(approved.getStatus()).isEqualTo(BookingStatus.APPROVED);
+        }
+        assertThat(feed.countSubscribers(stranger.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void publish_shouldDisconnectSubscriber_thatFellBehind() {
+        SseEmitter emitter = feed.subscribe(booker.getId());
+
+        // sending holds the emitter's lock, so the sender stays blocked as if the client stopped reading
+        synchronized (emitter) {
+            for (int i = 0; i < 66; i++) {
+                feed.publish(new BookingFeedEvent(i, BookingEventType.CREATED, i, item.getId(), booker.getId(),
+                        owner.getId(), BookingStatus.WAITING));
+            }
+        }
+
+        assertThat(feed.countSubscribers(booker.getId())).isZero();
+    }
+
+    private BufferedReader subscribe(long userId) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(
+                "http://localhost:" + port + "/bookings/events").openConnection();
+        connection.setRequestProperty("X-Sharer-User-Id", String.valueOf(userId));
+        connection.setRequestProperty("Accept", "text/event-stream");
+        connection.setReadTimeout(5000);
+        connections.add(connection);
+        assertThat(connection.getResponseCode()).isEqualTo(200);
+        return new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private void awaitSubscribers() throws InterruptedException {
+        for (int i = 0; i < 50 && feed.countSubscribers(booker.getId()) == 0; i++) {
+            Thread.sleep(100);
+        }
+    }
+
+    private BookingFeedEvent nextEvent(BufferedReader stream) throws IOException {
+        String line;
+        while ((line = stream.readLine()) != null) {
+            if (line.startsWith("data:")) {
+                return objectMapper.readValue(line.substring("data:".length()), BookingFeedEvent.class);
+            }
+        }
+        throw new AssertionError("Booking feed ended");
+    }
+}
@@ -0,0 +1,63 @@
+package ru.practicum.shareit.booking.partition;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingPartitionPlanTest {
+    private static final YearMonth NOW = YearMonth.of(2023, 3);
+
+    @Test
+    void of_shouldCreateArchiveAndRetainedMonths_onFirstRun() {
+        BookingPartitionPlan plan = BookingPartitionPlan.of(NOW, List.of(), false, 2, 1);
+
+        assertThat(plan.getArchiveUntil()).isEqualTo(YearMonth.of(2023, 1));
+        assertThat(plan.getMonthsToCreate()).containsExactly(
+                YearMonth.of(2023, 1), YearMonth.of(2023, 2), YearMonth.of(2023, 3), YearMonth.of(2023, 4));
+        assertThat(plan.getOverflowFrom()).isEqualTo(YearMonth.of(2023, 5));
+        assertThat(plan.getMonthsToArchive()).isEmpty();
+    }
+
+    @Test
+    void of_shouldDoNothing_ifLayoutIsCurrent() {
+        BookingPartitionPlan plan = BookingPartitionPlan.of(NOW,
+                List.of(YearMonth.of(2023, 1), YearMonth.of(2023, 2), YearMonth.of(2023, 3), YearMonth.of(2023, 4)),
+                true, 2, 1);
+
+        assertThat(plan.isEmpty()).isTrue();
+    }
+
+    @Test
+    void of_shouldAddMonthAheadAndArchiveOldestMonth_whenMonthChanges() {
+        BookingPartitionPlan plan = BookingPartitionPlan.of(NOW.plusMonths(1),
+                List.of(YearMonth.of(2023, 1), YearMonth.of(2023, 2), YearMonth.of(2023, 3), YearMonth.of(2023, 4)),
+                true, 2, 1);
+
+        assertThat(plan.getArchiveUntil()).isNull();
+        assertThat(plan.getMonthsToCreate()).containsExactly(YearMonth.of(2023, 5));
+        assertThat(plan.getOverflowFrom()).isEqualTo(YearMonth.of(2023, 6));
+        assertThat(plan.getMonthsToArchive()).containsExactly(YearMonth.of(2023, 1));
+    }
+
+    @Test
+    void of_shouldArchiveMonthsCreatedInTheSameRun_afterLongDowntime() {
+        BookingPartitionPlan plan = BookingPartitionPlan.of(NOW.plusMonths(5),
+                List.of(YearMonth.of(2023, 1), YearMonth.of(2023, 2), YearMonth.of(2023, 3), YearMonth.of(2023, 4)),
+                true, 2, 1);
+
+        assertThat(plan.getMonthsToCreate()).containsExactly(YearMonth.of(2023, 5), YearMonth.of(2023, 6),
+                YearMonth.of(2023, 7), YearMonth.of(2023, 8), YearMonth.of(2023, 9));
+        assertThat(plan.getMonthsToArchive()).containsExactly(YearMonth.of(2023, 1), YearMonth.of(2023, 2),
+                YearMonth.of(2023, 3), YearMonth.of(2023, 4), YearMonth.of(2023, 5));
+    }
+
+    @Test
+    void of_shouldThrowException_ifMonthlyPartitionsExistWithoutArchive() {
+        assertThatThrownBy(() -> BookingPartitionPlan.of(NOW, List.of(NOW), false, 2, 1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,88 @@
+package ru.practicum.shareit.booking.service;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DirtiesContext
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingServiceImplConcurrencyIntegrationTest {
+    private static final int THREADS = 4;
+
+    private final BookingService bookingService;
+    private final BookingRepository bookingRepository;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+
+    @Test
+    void updateStatus_shouldApplyOnlyOneDecision_ifOwnerDecidesConcurrently() throws Exception {
+        User owner = userRepository.save(User.builder().name("Owner").email("concurrent.owner@mail.ru").build());
+        User booker = userRepository.save(User.builder().name("Booker").email("concurrent.booker@mail.ru").build());
+        Item item = itemRepository.save(Item.builder()
+                .name("Drill")
+                .description("Drill")
+                .available(true)
+                .ownerId(owner.getId())
+                .build());
+        Booking booking = bookingRepository.save(Booking.builder()
+                .booker(booker)
+                .item(item)
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .status(BookingStatus.WAITING)
+                .build());
+
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<BookingStatus>> decisions = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                boolean approved = i % 2 == 0;
+                decisions.add(executor.submit(() -> {
+                    start.await();
+                    return bookingService.updateStatus(owner.getId(), booking.getId(), approved).getStatus();
+                }));
+            }
+
+            List<BookingStatus> applied = new ArrayList<>();
+            int rejectedAsAlreadySet = 0;
+            for (Future<BookingStatus> decision : decisions) {
+                try {
+                    applied.add(decision.get());
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(ValidationException.class);
+                    rejectedAsAlreadySet++;
+                }
+            }
+
+            assertThat(applied).hasSize(1);
+            assertThat(rejectedAsAlreadySet).isEqualTo(THREADS - 1);
+            assertThat(bookingRepository.findById(booking.getId()).orElseThrow().getStatus())
+                    .isEqualTo(applied.get(0));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
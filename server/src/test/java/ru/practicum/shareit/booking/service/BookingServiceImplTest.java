@@ -13,10 +13,15 @@ import org.springframework.data.jpa.domain.Specification;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.event.BookingEventPublisher;
+import ru.practicum.shareit.booking.event.BookingEventType;
+import ru.practicum.shareit.booking.summary.ItemBookingSummaryService;
 import ru.practicum.shareit.exception.ForbiddenException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.outbox.ChangeEventPublisher;
+import ru.practicum.shareit.outbox.ChangeEventType;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
 
@@ -42,6 +47,15 @@ class BookingServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ItemBookingSummaryService itemBookingSummaryService;
+
+    @Mock
+    private BookingEventPublisher bookingEventPublisher;
+
+    @Mock
+    private ChangeEventPublisher changeEventPublisher;
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -85,10 +99,14 @@ class BookingServiceImplTest {
                 .start(LocalDateTime.now())
                 .end(LocalDateTime.now().plusDays(1))
                 .build();
+        when(bookingRepository.save(booking)).thenReturn(booking);
 
         bookingService.addBooking(booking);
 
         verify(bookingRepository, times(1)).save(booking);
+        verify(itemBookingSummaryService, times(1)).onBookingAdded(booking);
+        verify(bookingEventPublisher, times(1)).publish(booking, BookingEventType.CREATED);
+        verify(changeEventPublisher, times(1)).publish(booking, ChangeEventType.CREATED);
     }
 
     @Test
@@ -137,15 +155,19 @@ class BookingServiceImplTest {
                 .item(item)
                 .status(BookingStatus.WAITING)
                 .build();
-        when(bookingRepository.findById(bookingToApprove.getId())).thenReturn(Optional.of(bookingToApprove));
-        when(bookingRepository.findById(bookingToReject.getId())).thenReturn(Optional.of(bookingToReject));
-        when(bookingRepository.save(any(Booking.class))).thenAnswer(InjectMocks -> InjectMocks.getArgument(0));
+        when(bookingRepository.findByIdForUpdate(bookingToApprove.getId())).thenReturn(Optional.of(bookingToApprove));
+        when(bookingRepository.findByIdForUpdate(bookingToReject.getId())).thenReturn(Optional.of(bookingToReject));
+        when(bookingRepository.saveAndFlush(any(Booking.class))).thenAnswer(InjectMocks -> InjectMocks.getArgument(0));
 
         bookingService.updateStatus(user.getId(), bookingToApprove.getId(), true);
         bookingService.updateStatus(user.getId(), bookingToReject.getId(), false);
 
         assertThat(bookingToApprove.getStatus()).isEqualTo(BookingStatus.APPROVED);
         assertThat(bookingToReject.getStatus()).isEqualTo(BookingStatus.REJECTED);
+        verify(itemBookingSummaryService, times(1)).onStatusChanged(bookingToApprove);
+        verify(itemBookingSummaryService, times(1)).onStatusChanged(bookingToReject);
+        verify(bookingEventPublisher, times(1)).publish(bookingToApprove, BookingEventType.STATUS_CHANGED);
+        verify(bookingEventPublisher, times(1)).publish(bookingToReject, BookingEventType.STATUS_CHANGED);
     }
 
     @Test
@@ -157,7 +179,7 @@ class BookingServiceImplTest {
                 .item(item)
                 .status(BookingStatus.APPROVED)
                 .build();
-        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(booking));
 
         assertThatThrownBy(() -> bookingService.updateStatus(1, 1, false))
                 .isInstanceOf(ValidationException.class);
@@ -165,7 +187,7 @@ class BookingServiceImplTest {
 
     @Test
     void updateStatus_shouldThrowException_ifBookingNotFound() {
-        when(bookingRepository.findById(1L)).thenReturn(Optional.empty());
+        when(bookingRepository.findByIdForUpdate(1L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> bookingService.updateStatus(1, 1, false))
                 .isInstanceOf(NotFoundException.class);
@@ -180,7 +202,7 @@ class BookingServiceImplTest {
                 .item(item)
                 .status(BookingStatus.WAITING)
                 .build();
-        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(booking));
 
         assertThatThrownBy(() -> bookingService.updateStatus(1, 1, false))
                 .isInstanceOf(ForbiddenException.class);
@@ -231,16 +253,4 @@ class BookingServiceImplTest {
 
         verify(bookingRepository, times(1)).findAll(any(Specification.class), any(Pageable.class));
     }
-
-    @Test
-    void getLastItemBooking_shouldCallRepository() {
-        bookingService.getLastItemBooking(1);
-        verify(bookingRepository, times(1)).findLastItemBooking(1);
-    }
-
-    @Test
-    void getNextItemBooking_shouldCallRepository() {
-        bookingService.getNextItemBooking(1);
-        verify(bookingRepository, times(1)).findNextItemBooking(1);
-    }
 }
\ No newline at end of file
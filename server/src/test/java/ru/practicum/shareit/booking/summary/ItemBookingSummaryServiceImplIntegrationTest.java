@@ -0,0 +1,139 @@
+package ru.practicum.shareit.booking.summary;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ItemBookingSummaryServiceImplIntegrationTest {
+    private final ItemBookingSummaryService summaryService;
+    private final ItemBookingSummaryRepository summaryRepository;
+    private final ItemBookingSummaryRollForward rollForward;
+    private final BookingService bookingService;
+    private final BookingRepository bookingRepository;
+    private final ItemService itemService;
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+
+    private User owner;
+    private User booker;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder().name("Owner").email("owner@email.com").build());
+        booker = userRepository.save(User.builder().name("Booker").email("booker@email.com").build());
+        item = itemService.addItem(Item.builder().name("Drill").description("Good drill").available(true)
+                .ownerId(owner.getId()).build());
+    }
+
+    @Test
+    void addBooking_shouldKeepClosestLastAndNextBookings() {
+        addBooking(-10, BookingStatus.APPROVED);
+        Booking last = addBooking(-5, BookingStatus.APPROVED);
+        addBooking(-7, BookingStatus.WAITING);
+        addBooking(5, BookingStatus.WAITING);
+        Booking next = addBooking(3, BookingStatus.WAITING);
+        addBooking(1, BookingStatus.REJECTED);
+
+        ItemBookingSummary summary = summaryRepository.findById(item.getId()).orElseThrow();
+
+        assertThat(summary.getLast()).isEqualTo(BookingSnapshot.of(last));
+        assertThat(summary.getNext()).isEqualTo(BookingSnapshot.of(next));
+        assertThatSummaryMatchesBookings();
+    }
+
+    @Test
+    void updateStatus_shouldRecomputeSummary_ifNextBookingIsRejected() {
+        Booking next = addBooking(3, BookingStatus.WAITING);
+        Booking following = addBooking(5, BookingStatus.WAITING);
+
+        bookingService.updateStatus(owner.getId(), next.getId(), false);
+
+        assertThat(summaryRepository.findById(item.getId()).orElseThrow().getNext())
+                .isEqualTo(BookingSnapshot.of(following));
+        assertThatSummaryMatchesBookings();
+    }
+
+    @Test
+    void getSummaries_shouldRecomputeOnRead_untilRolledForward() {
+        Booking last = bookingRepository.save(booking(LocalDateTime.now().minusDays(2), BookingStatus.APPROVED));
+        Booking started = bookingRepository.save(booking(LocalDateTime.now().minusDays(1), BookingStatus.APPROVED));
+        Booking next = bookingRepository.save(booking(LocalDateTime.now().plusDays(2), BookingStatus.WAITING));
+        // as written while the started booking was still the next one
+        ItemBookingSummary stale = summaryRepository.findById(item.getId()).orElseThrow();
+        stale.setLast(BookingSnapshot.of(last));
+        stale.setNext(BookingSnapshot.of(started));
+        summaryRepository.save(stale);
+
+        assertThat(summaryRepository.findById(item.getId()).orElseThrow().isRolledOver(LocalDateTime.now())).isTrue();
+        assertThatSummaryMatchesBookings();
+        assertThat(summaryService.getItemIdsToRefresh(10)).containsExactly(item.getId());
+
+        rollForward.rollForward();
+
+        ItemBookingSummary summary = summaryRepository.findById(item.getId()).orElseThrow();
+        assertThat(summary.getLast()).isEqualTo(BookingSnapshot.of(started));
+        assertThat(summary.getNext()).isEqualTo(BookingSnapshot.of(next));
+        assertThat(summaryService.getItemIdsToRefresh(10)).isEmpty();
+    }
+
+    @Test
+    void rollForward_shouldCreateMissingSummaries() {
+        item = itemRepository.save(Item.builder().name("Saw").description("Sharp saw").available(true)
+                .ownerId(owner.getId()).build());
+        Booking last = addBooking(-1, BookingStatus.APPROVED);
+        Booking next = addBooking(1, BookingStatus.WAITING);
+        assertThat(summaryRepository.findById(item.getId())).isEmpty();
+        assertThatSummaryMatchesBookings();
+
+        rollForward.rollForward();
+
+        ItemBookingSummary summary = summaryRepository.findById(item.getId()).orElseThrow();
+        assertThat(summary.getLast()).isEqualTo(BookingSnapshot.of(last));
+        assertThat(summary.getNext()).isEqualTo(BookingSnapshot.of(next));
+    }
+
+    private void assertThatSummaryMatchesBookings() {
+        ItemBookingSummary summary = summaryService.getSummaries(List.of(item.getId())).get(item.getId());
+        Booking last = bookingRepository.findLastItemBooking(item.getId());
+        Booking next = bookingRepository.findNextItemBooking(item.getId());
+
+        assertThat(summary.getLast()).isEqualTo(BookingSnapshot.of(last));
+        assertThat(summary.getNext()).isEqualTo(BookingSnapshot.of(next));
+    }
+
+    private Booking addBooking(int startInDays, BookingStatus status) {
+        return bookingService.addBooking(booking(LocalDateTime.now().plusDays(startInDays), status));
+    }
+
+    private Booking booking(LocalDateTime start, BookingStatus status) {
+        return Booking.builder()
+                .booker(booker)
+                .item(item)
+                .start(start.truncatedTo(ChronoUnit.MILLIS))
+                .end(start.truncatedTo(ChronoUnit.MILLIS).plusHours(1))
+                .status(status)
+                .build();
+    }
+}
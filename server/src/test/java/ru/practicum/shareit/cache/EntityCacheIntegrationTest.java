@@ -0,0 +1,107 @@
+package ru.practicum.shareit.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.metrics.SqlStatementCounter;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static ru.practicum.shareit.metrics.SqlStatementsAssert.assertThatStatements;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class EntityCacheIntegrationTest {
+    private final SqlStatementCounter counter;
+    private final MeterRegistry meterRegistry;
+    private final UserRepository userRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final ItemRepository itemRepository;
+    private final ItemService itemService;
+
+    private User owner;
+    private ItemRequest request;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder().name("Owner").email("owner@ggg.gg").build());
+        User requester = userRepository.save(User.builder().name("Requester").email("requester@ggg.gg").build());
+        request = itemRequestRepository.save(ItemRequest.builder().description("Need a drill")
+                .requesterId(requester.getId()).created(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS)).build());
+        item = itemService.addItem(Item.builder().name("Drill").description("Good drill").available(true)
+                .ownerId(owner.getId()).requestId(request.getId()).build());
+    }
+
+    @Test
+    void findById_shouldNotQuery_ifEntityCached() {
+        userRepository.findById(owner.getId());
+        itemRepository.findById(item.getId());
+        itemRequestRepository.findById(request.getId());
+
+        try (SqlStatementCounter.Recording statements = counter.start()) {
+            assertThat(userRepository.findById(owner.getId())).contains(owner);
+            assertThat(itemRepository.findById(item.getId())).contains(item);
+            assertThat(itemRequestRepository.findById(request.getId())).contains(request);
+
+            assertThatStatements(statements).hasAtMost(0);
+        }
+        assertThat(meterRegistry.get("hibernate.second.level.cache.requests")
+                .tag("region", EntityCacheRegions.USERS).tag("result", "hit")
+                .functionCounter().count()).isPositive();
+    }
+
+    @Test
+    void findById_shouldReturnUpdatedEntity() {
+        userRepository.findById(owner.getId());
+        owner.setName("Renamed");
+        userRepository.save(owner);
+
+        assertThat(userRepository.findById(owner.getId()).orElseThrow().getName()).isEqualTo("Renamed");
+    }
+
+    @Test
+    void findAllByRequestId_shouldNotQuery_ifResultCached() {
+        itemRepository.findAllByRequestId(request.getId());
+        itemRepository.findAllByOwnerIdOrderById(owner.getId(), PageRequest.of(0, 10));
+
+        try (SqlStatementCounter.Recording statements = counter.start()) {
+            assertThat(itemRepository.findAllByRequestId(request.getId())).containsExactly(item);
+            assertThat(itemRepository.findAllByOwnerIdOrderById(owner.getId(), PageRequest.of(0, 10)))
+                    .containsExactly(item);
+
+            assertThatStatements(statements).hasAtMost(0);
+        }
+    }
+
+    @Test
+    void findAllByRequestId_shouldQueryAgain_afterItemAdded() {
+        itemRepository.findAllByRequestId(request.getId());
+        Item other = itemService.addItem(Item.builder().name("Saw").description("Sharp saw").available(true)
+                .ownerId(owner.getId()).requestId(request.getId()).build());
+        item.setAvailable(false);
+        itemService.updateItem(item);
+
+        List<Item> items = itemRepository.findAllByRequestId(request.getId());
+
+        assertThat(items).extracting(Item::getId, Item::getAvailable)
+                .containsExactlyInAnyOrder(tuple(item.getId(), false), tuple(other.getId(), true));
+    }
+}
@@ -0,0 +1,120 @@
+package ru.practicum.shareit.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.pool-name=shareit-server",
+        "shareit.datasource.replica.urls=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+        "shareit.datasource.replica.lag-query=SELECT 0"
+})
+@DirtiesContext
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ReplicaRoutingIntegrationTest {
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+    private final ItemService itemService;
+    private final UserService userService;
+    private final ReplicaPools replicaPools;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * The replica gets an item the primary never sees, so whichever database served a search shows in its result.
+     */
+    @BeforeAll
+    static void seedReplica() throws SQLException {
+        DriverManagerDataSource replica = new DriverManagerDataSource(REPLICA_URL, "test", "test");
+        try (Connection connection = replica.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("schema.sql"));
+        }
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(replica);
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (1000, 'Replica', 'replica@mail.ru')");
+        jdbcTemplate.update("INSERT INTO items (id, name, description, is_available, owner_id) "
+                + "VALUES (1000, 'Replicated drill', 'Only on the replica', true, 1000)");
+    }
+
+    @BeforeEach
+    void measureLag() {
+        replicaLagMonitor.checkLag();
+    }
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransaction_shouldReadFromReplica() {
+        double routedBefore = routedTo("shareit-server-replica-1");
+
+        assertThat(search()).extracting(Item::getName).containsExactly("Replicated drill");
+        assertThat(routedTo("shareit-server-replica-1")).isGreaterThan(routedBefore);
+    }
+
+    @Test
+    void readOnlyTransaction_shouldReadFromPrimary_afterOwnWrite() {
+        actAs(1);
+        userService.addUser(User.builder().name("Writer").email("writer@mail.ru").build());
+        assertThat(search()).isEmpty();
+
+        actAs(2);
+        assertThat(search()).hasSize(1);
+
+        actAs(1);
+        assertThat(search()).isEmpty();
+    }
+
+    @Test
+    void readOnlyTransaction_shouldReadFromPrimary_ifReplicaLagsTooMuch() {
+        replicaPools.getReplicas().get(0).setLagMillis(60_000);
+
+        assertThat(search()).isEmpty();
+    }
+
+    @Test
+    void readOnlyTransaction_shouldReadFromPrimary_ifReplicaIsDown() {
+        replicaPools.getReplicas().get(0).setLagMillis(ReplicaPools.Replica.UNKNOWN_LAG);
+
+        assertThat(search()).isEmpty();
+    }
+
+    private List<Item> search() {
+        return itemService.searchText("replicated", PageRequest.of(0, 10));
+    }
+
+    private void actAs(long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Sharer-User-Id", userId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private double routedTo(String target) {
+        return meterRegistry.get("shareit.datasource.routed").tag("target", target).functionCounter().count();
+    }
+}
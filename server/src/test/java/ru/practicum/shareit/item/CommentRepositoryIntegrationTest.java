@@ -4,14 +4,18 @@ import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.CommentView;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -24,7 +28,7 @@ class CommentRepositoryIntegrationTest {
     private final UserRepository userRepository;
 
     @Test
-    void findAllByItemIdOrderByCreatedDesc() {
+    void findViewsByItemId() {
         User user = userRepository.save(User.builder().name("User").email("user@email.com").build());
         User user2 = userRepository.save(User.builder().name("User2").email("user2@email.com").build());
         Item item1 = itemRepository.save(Item.builder()
@@ -44,11 +48,20 @@ class CommentRepositoryIntegrationTest {
         Comment comment6 = commentRepository.save(Comment.builder().item(item2).text("Text text text x2").author(user2)
                 .created(LocalDateTime.of(1997, 4, 1, 12, 0)).build());
 
-        List<Comment> item1expected = List.of(comment1, comment5, comment3);
-        List<Comment> item2expected = List.of(comment4, comment6, comment2);
+        List<CommentView> item1expected = views(comment1, comment5, comment3);
+        List<CommentView> item2expected = views(comment4, comment6);
 
-        assertThat(commentRepository.findAllByItemIdOrderByCreatedDesc(item1.getId())).isEqualTo(item1expected);
-        assertThat(commentRepository.findAllByItemIdOrderByCreatedDesc(item2.getId())).isEqualTo(item2expected);
+        assertThat(commentRepository.findViewsByItemId(item1.getId(), PageRequest.of(0, 10))).isEqualTo(item1expected);
+        assertThat(commentRepository.findViewsByItemId(item2.getId(), PageRequest.of(0, 2))).isEqualTo(item2expected);
+        assertThat(commentRepository.findViewsByItemId(item2.getId(), PageRequest.of(1, 2)))
+                .isEqualTo(views(comment2));
+        assertThat(commentRepository.countByItemId(item1.getId())).isEqualTo(3);
+    }
+
+    private static List<CommentView> views(Comment... comments) {
+        return Arrays.stream(comments)
+                .map(c -> new CommentView(c.getId(), c.getText(), c.getAuthor().getName(), c.getCreated()))
+                .collect(Collectors.toList());
     }
 
 }
\ No newline at end of file
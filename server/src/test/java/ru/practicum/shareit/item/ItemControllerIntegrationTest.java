@@ -13,11 +13,15 @@ import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.BookingMapper;
 import ru.practicum.shareit.booking.BookingStatus;
-import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.booking.summary.BookingSnapshot;
+import ru.practicum.shareit.booking.summary.ItemBookingSummary;
+import ru.practicum.shareit.booking.summary.ItemBookingSummaryService;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.CommentPreview;
+import ru.practicum.shareit.item.model.CommentView;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.user.User;
@@ -25,7 +29,10 @@ import ru.practicum.shareit.user.UserMapper;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
@@ -49,7 +56,7 @@ class ItemControllerIntegrationTest {
     private ItemService itemService;
 
     @MockBean
-    private BookingService bookingService;
+    private ItemBookingSummaryService itemBookingSummaryService;
 
     @MockBean
     private UserService userService;
@@ -71,9 +78,11 @@ class ItemControllerIntegrationTest {
         Comment comment2 = comment2(user, item1);
 
         when(itemService.getItemsByOwnerId(1, DEFAULT_PAGEABLE)).thenReturn(List.of(item1, item2));
-        when(bookingService.getLastItemBooking(item1.getId())).thenReturn(lastBooking);
-        when(bookingService.getNextItemBooking(item1.getId())).thenReturn(nextBooking);
-        when(itemService.getComments(item1.getId())).thenReturn(List.of(comment1, comment2));
+        when(itemBookingSummaryService.getSummaries(List.of(item1.getId(), item2.getId()))).thenReturn(Map.of(
+                item1.getId(), summary(item1, lastBooking, nextBooking),
+                item2.getId(), summary(item2, null, null)));
+        when(itemService.getCommentPreview(item1.getId())).thenReturn(preview(comment1, comment2));
+        when(itemService.getCommentPreview(item2.getId())).thenReturn(preview());
 
         mockMvc.perform(get("/items")
                         .header(USER_ID_HEADER, 1)
@@ -86,12 +95,13 @@ class ItemControllerIntegrationTest {
                 .andExpect(jsonPath("$.[0].nextBooking.id").value(nextBooking.getId()))
                 .andExpect(jsonPath("$.[0].comments[0].id").value(comment1.getId()))
                 .andExpect(jsonPath("$.[0].comments[1].id").value(comment2.getId()))
-                .andExpect(jsonPath("$.[1].id").value(item2.getId()));
+                .andExpect(jsonPath("$.[0].commentCount").value(2))
+                .andExpect(jsonPath("$.[1].id").value(item2.getId()))
+                .andExpect(jsonPath("$.[1].lastBooking").isEmpty());
 
         verify(itemService, times(1)).getItemsByOwnerId(1, DEFAULT_PAGEABLE);
-        verify(itemService, times(1)).getComments(item1.getId());
-        verify(bookingService, times(1)).getLastItemBooking(item1.getId());
-        verify(bookingService, times(1)).getNextItemBooking(item1.getId());
+        verify(itemService, times(1)).getCommentPreview(item1.getId());
+        verify(itemBookingSummaryService, times(1)).getSummaries(List.of(item1.getId(), item2.getId()));
     }
 
     @Test
@@ -117,9 +127,9 @@ class ItemControllerIntegrationTest {
         Comment comment2 = comment2(user, item1);
 
         when(itemService.getItemById(item1.getId())).thenReturn(item1);
-        when(bookingService.getLastItemBooking(item1.getId())).thenReturn(lastBooking);
-        when(bookingService.getNextItemBooking(item1.getId())).thenReturn(nextBooking);
-        when(itemService.getComments(item1.getId())).thenReturn(List.of(comment1, comment2));
+        when(itemBookingSummaryService.getSummaries(List.of(item1.getId())))
+                .thenReturn(Map.of(item1.getId(), summary(item1, lastBooking, nextBooking)));
+        when(itemService.getCommentPreview(item1.getId())).thenReturn(preview(comment1, comment2));
 
         mockMvc.perform(get("/items/{id}", item1.getId())
                         .header(USER_ID_HEADER, item1.getOwnerId()))
@@ -130,9 +140,8 @@ class ItemControllerIntegrationTest {
                 .andExpect(jsonPath("$.comments").isNotEmpty());
 
         verify(itemService, times(1)).getItemById(item1.getId());
-        verify(itemService, times(1)).getComments(item1.getId());
-        verify(bookingService, times(1)).getLastItemBooking(item1.getId());
-        verify(bookingService, times(1)).getNextItemBooking(item1.getId());
+        verify(itemService, times(1)).getCommentPreview(item1.getId());
+        verify(itemBookingSummaryService, times(1)).getSummaries(List.of(item1.getId()));
     }
 
     @Test
@@ -146,9 +155,9 @@ class ItemControllerIntegrationTest {
 
         int randomUserId = 113;
         when(itemService.getItemById(item1.getId())).thenReturn(item1);
-        when(bookingService.getLastItemBooking(item1.getId())).thenReturn(lastBooking);
-        when(bookingService.getNextItemBooking(item1.getId())).thenReturn(nextBooking);
-        when(itemService.getComments(item1.getId())).thenReturn(List.of(comment1, comment2));
+        when(itemBookingSummaryService.getSummaries(List.of(item1.getId())))
+                .thenReturn(Map.of(item1.getId(), summary(item1, lastBooking, nextBooking)));
+        when(itemService.getCommentPreview(item1.getId())).thenReturn(preview(comment1, comment2));
 
         mockMvc.perform(get("/items/{id}", item1.getId())
                         .header(USER_ID_HEADER, randomUserId))
@@ -159,8 +168,8 @@ class ItemControllerIntegrationTest {
                 .andExpect(jsonPath("$.comments").isNotEmpty());
 
         verify(itemService, times(1)).getItemById(item1.getId());
-        verify(itemService, times(1)).getComments(item1.getId());
-        verifyNoInteractions(bookingService);
+        verify(itemService, times(1)).getCommentPreview(item1.getId());
+        verifyNoInteractions(itemBookingSummaryService);
     }
 
     @Test
@@ -265,6 +274,24 @@ class ItemControllerIntegrationTest {
         verify(itemService, times(1)).updateItem(any(Item.class));
     }
 
+    @Test
+    void getComments_shouldReturnCommentPage() throws Exception {
+        Item item1 = item1();
+        User user = user();
+        CommentPreview comments = preview(comment2(user, item1), comment1(user, item1));
+        when(itemService.getComments(item1.getId(), PageRequest.of(1, 2))).thenReturn(comments.getLatest());
+
+        mockMvc.perform(get("/items/{itemId}/comments", item1.getId())
+                        .param("from", "2")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$.[0].id").value(comments.getLatest().get(0).getId()))
+                .andExpect(jsonPath("$.[0].authorName").value(user.getName()));
+
+        verify(itemService, times(1)).getComments(item1.getId(), PageRequest.of(1, 2));
+    }
+
     @Test
     void addComment_shouldReturnOk_ifAuthorAndItemFoundAndValidationPassed() throws Exception {
         Item item1 = item1();
@@ -368,6 +395,20 @@ class ItemControllerIntegrationTest {
                 .build();
     }
 
+    private ItemBookingSummary summary(Item item, Booking lastBooking, Booking nextBooking) {
+        return ItemBookingSummary.builder()
+                .itemId(item.getId())
+                .last(BookingSnapshot.of(lastBooking))
+                .next(BookingSnapshot.of(nextBooking))
+                .build();
+    }
+
+    private CommentPreview preview(Comment... comments) {
+        return new CommentPreview(comments.length, Arrays.stream(comments)
+                .map(c -> new CommentView(c.getId(), c.getText(), c.getAuthor().getName(), c.getCreated()))
+                .collect(Collectors.toList()));
+    }
+
     private Comment comment1(User user, Item item) {
         return Comment.builder()
                 .id(111)
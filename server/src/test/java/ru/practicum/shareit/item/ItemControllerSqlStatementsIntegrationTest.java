@@ -0,0 +1,109 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.metrics.SqlStatementCounter;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.practicum.shareit.metrics.SqlStatementsAssert.assertThatStatements;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ItemControllerSqlStatementsIntegrationTest {
+    private static final String USER_ID = "X-Sharer-User-Id";
+    private static final int ITEMS = 3;
+
+    private final MockMvc mockMvc;
+    private final SqlStatementCounter counter;
+    private final UserRepository userRepository;
+    private final ItemService itemService;
+    private final CommentRepository commentRepository;
+    private final BookingRepository bookingRepository;
+
+    private User owner;
+    private User author;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder().name("Owner").email("owner@ggg.gg").build());
+        author = userRepository.save(User.builder().name("Author").email("author@ggg.gg").build());
+        for (int i = 0; i < ITEMS; i++) {
+            item = itemService.addItem(Item.builder().name("Drill").description("Good drill").available(true)
+                    .ownerId(owner.getId()).build());
+            commentRepository.save(Comment.builder().text("Fine").item(item).author(author)
+                    .created(LocalDateTime.now()).build());
+        }
+    }
+
+    @Test
+    void getAll_shouldNotExceedStatementBudget() throws Exception {
+        try (SqlStatementCounter.Recording statements = counter.start()) {
+            mockMvc.perform(get("/items?from=0&size=10").header(USER_ID, owner.getId()))
+                    .andExpect(status().isOk());
+
+            // user check, item page, booking summaries, then comment preview per item
+            assertThatStatements(statements).hasAtMost(3 + ITEMS);
+        }
+    }
+
+    @Test
+    void getAll_shouldReadCommentPreviewsFromCache_onRepeatedRequest() throws Exception {
+        mockMvc.perform(get("/items?from=0&size=10").header(USER_ID, owner.getId()))
+                .andExpect(status().isOk());
+
+        try (SqlStatementCounter.Recording statements = counter.start()) {
+            mockMvc.perform(get("/items?from=0&size=10").header(USER_ID, owner.getId()))
+                    .andExpect(status().isOk());
+
+            assertThatStatements(statements).hasAtMost(3);
+        }
+    }
+
+    @Test
+    void getById_shouldNotExceedStatementBudget_ifNotOwner() throws Exception {
+        try (SqlStatementCounter.Recording statements = counter.start()) {
+            mockMvc.perform(get("/items/{id}", item.getId()).header(USER_ID, owner.getId() + 1))
+                    .andExpect(status().isOk());
+
+            assertThatStatements(statements).hasAtMost(3).hasNoStatementRepeatedMoreThan(1);
+        }
+    }
+
+    @Test
+    void addComment_shouldLoadAuthorAndItemOnce() throws Exception {
+        bookingRepository.save(Booking.builder().item(item).booker(author).status(BookingStatus.APPROVED)
+                .start(LocalDateTime.now().minusDays(2)).end(LocalDateTime.now().minusDays(1)).build());
+
+        try (SqlStatementCounter.Recording statements = counter.start()) {
+            mockMvc.perform(post("/items/{id}/comment", item.getId()).header(USER_ID, author.getId())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"text\": \"Great\"}"))
+                    .andExpect(status().isOk());
+
+            // author, item, past booking check, comment
+            assertThatStatements(statements).hasAtMost(4).hasNoStatementRepeatedMoreThan(1);
+        }
+    }
+}
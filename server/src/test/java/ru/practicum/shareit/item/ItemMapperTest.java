@@ -30,7 +30,8 @@ class ItemMapperTest {
         List<CommentDto> comments = List.of(CommentDto.builder().id(100).build());
 
         itemDto.setComments(comments);
-        ItemDto fromMapper = itemMapper.toDto(item, comments);
+        itemDto.setCommentCount(12L);
+        ItemDto fromMapper = itemMapper.toDto(item, comments, 12);
 
         assertThat(fromMapper).isEqualTo(itemDto);
     }
@@ -43,10 +44,11 @@ class ItemMapperTest {
         BookingForItemDto lastBooking = BookingForItemDto.builder().id(75).build();
         BookingForItemDto nextBooking = BookingForItemDto.builder().id(88).build();
         itemDto.setComments(comments);
+        itemDto.setCommentCount(1L);
         itemDto.setLastBooking(lastBooking);
         itemDto.setNextBooking(nextBooking);
 
-        ItemDto fromMapper = itemMapper.toDto(item, lastBooking, nextBooking, comments);
+        ItemDto fromMapper = itemMapper.toDto(item, lastBooking, nextBooking, comments, 1);
 
         assertThat(fromMapper).isEqualTo(itemDto);
     }
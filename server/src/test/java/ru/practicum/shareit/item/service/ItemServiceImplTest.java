@@ -1,29 +1,39 @@
 package ru.practicum.shareit.item.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
-import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.eligibility.ApprovedBookingFilter;
+import ru.practicum.shareit.booking.summary.ItemBookingSummaryService;
 import ru.practicum.shareit.exception.ForbiddenException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.CommentPreviewCache;
+import ru.practicum.shareit.item.CommentProperties;
 import ru.practicum.shareit.item.CommentRepository;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.CommentPreview;
+import ru.practicum.shareit.item.model.CommentView;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.outbox.ChangeEventPublisher;
+import ru.practicum.shareit.outbox.ChangeEventType;
 import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.request.feed.RequestFeedService;
+import ru.practicum.shareit.request.matching.RequestMatchingService;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -54,6 +64,28 @@ class ItemServiceImplTest {
     @Mock
     private ItemRequestRepository itemRequestRepository;
 
+    @Mock
+    private ItemBookingSummaryService itemBookingSummaryService;
+
+    @Mock
+    private ApprovedBookingFilter approvedBookingFilter;
+
+    @Spy
+    private CommentProperties commentProperties = new CommentProperties();
+
+    @Spy
+    private CommentPreviewCache commentPreviewCache =
+            new CommentPreviewCache(commentProperties, new SimpleMeterRegistry());
+
+    @Mock
+    private ChangeEventPublisher changeEventPublisher;
+
+    @Mock
+    private RequestMatchingService requestMatchingService;
+
+    @Mock
+    private RequestFeedService requestFeedService;
+
     @InjectMocks
     private ItemServiceImpl itemService;
 
@@ -114,9 +146,14 @@ class ItemServiceImplTest {
     void addItem_shouldSendItemToRepo_ifUserExists() {
         Item item1 = Item.builder().id(1).name("Item 1").ownerId(1).build();
         when(userRepository.existsById(item1.getOwnerId())).thenReturn(true);
+        when(itemRepository.save(item1)).thenReturn(item1);
         itemService.addItem(item1);
 
         verify(itemRepository, times(1)).save(item1);
+        verify(itemBookingSummaryService, times(1)).addSummary(item1.getId());
+        verify(requestFeedService, times(1)).onItemSaved(item1);
+        verify(requestMatchingService, times(1)).matchItem(item1);
+        verify(changeEventPublisher, times(1)).publish(item1, ChangeEventType.CREATED);
     }
 
     @Test
@@ -204,9 +241,10 @@ class ItemServiceImplTest {
                 .author(User.builder().id(100).build())
                 .created(LocalDateTime.now())
                 .build();
-        when(bookingRepository.findAllByItemIdAndBookerIdAndStatusAndEndBefore(
+        when(approvedBookingFilter.mightHaveApprovedBooking(1, 100)).thenReturn(true);
+        when(bookingRepository.existsByItemIdAndBookerIdAndStatusAndEndBefore(
                 anyLong(), anyLong(), any(BookingStatus.class), any(LocalDateTime.class)))
-                .thenReturn(List.of(new Booking()));
+                .thenReturn(true);
 
         itemService.addComment(comment);
         verify(commentRepository, times(1)).save(comment);
@@ -220,24 +258,88 @@ class ItemServiceImplTest {
                 .author(User.builder().id(100).build())
                 .created(LocalDateTime.now())
                 .build();
-        when(bookingRepository.findAllByItemIdAndBookerIdAndStatusAndEndBefore(
+        when(approvedBookingFilter.mightHaveApprovedBooking(1, 100)).thenReturn(true);
+        when(bookingRepository.existsByItemIdAndBookerIdAndStatusAndEndBefore(
                 anyLong(), anyLong(), any(BookingStatus.class), any(LocalDateTime.class)))
-                .thenReturn(Collections.emptyList());
+                .thenReturn(false);
 
         assertThatThrownBy(() -> itemService.addComment(comment)).isInstanceOf(ValidationException.class);
         verify(commentRepository, never()).save(comment);
     }
 
     @Test
-    void getComments_shouldReturnComments() {
-        Comment comment1 = Comment.builder().id(1).build();
-        Comment comment2 = Comment.builder().id(2).build();
-        Comment comment3 = Comment.builder().id(3).build();
-        List<Comment> expected = List.of(comment1, comment2, comment3);
-        when(commentRepository.findAllByItemIdOrderByCreatedDesc(1L)).thenReturn(expected);
+    void addComment_shouldThrowExceptionWithoutQuery_ifFilterHasNoApprovedBooking() {
+        Item item1 = Item.builder().id(1).name("Item 1").ownerId(1).build();
+        Comment comment = Comment.builder()
+                .item(item1)
+                .author(User.builder().id(100).build())
+                .created(LocalDateTime.now())
+                .build();
+        when(approvedBookingFilter.mightHaveApprovedBooking(1, 100)).thenReturn(false);
+
+        assertThatThrownBy(() -> itemService.addComment(comment)).isInstanceOf(ValidationException.class);
+        verify(bookingRepository, never()).existsByItemIdAndBookerIdAndStatusAndEndBefore(
+                anyLong(), anyLong(), any(BookingStatus.class), any(LocalDateTime.class));
+        verify(commentRepository, never()).save(comment);
+    }
+
+    @Test
+    void getCommentPreview_shouldNotCountComments_ifPreviewIsNotFull() {
+        List<CommentView> latest = List.of(commentView(2), commentView(1));
+        when(commentRepository.findViewsByItemId(1L, PageRequest.of(0, 10))).thenReturn(latest);
+
+        assertThat(itemService.getCommentPreview(1)).isEqualTo(new CommentPreview(2, latest));
+        verify(commentRepository, never()).countByItemId(anyLong());
+    }
+
+    @Test
+    void getCommentPreview_shouldCountComments_ifPreviewIsFull() {
+        commentProperties.setPreviewSize(2);
+        List<CommentView> latest = List.of(commentView(5), commentView(4));
+        when(commentRepository.findViewsByItemId(1L, PageRequest.of(0, 2))).thenReturn(latest);
+        when(commentRepository.countByItemId(1L)).thenReturn(5L);
 
-        assertThat(itemService.getComments(1)).isEqualTo(expected);
-        verify(commentRepository, times(1)).findAllByItemIdOrderByCreatedDesc(1);
+        assertThat(itemService.getCommentPreview(1)).isEqualTo(new CommentPreview(5, latest));
+    }
+
+    @Test
+    void getCommentPreview_shouldBeCached_untilCommentIsAdded() {
+        Comment comment = Comment.builder()
+                .item(Item.builder().id(1).build())
+                .author(User.builder().id(100).build())
+                .created(LocalDateTime.now())
+                .build();
+        when(commentRepository.findViewsByItemId(1L, PageRequest.of(0, 10))).thenReturn(List.of(commentView(1)));
+        when(approvedBookingFilter.mightHaveApprovedBooking(1, 100)).thenReturn(true);
+        when(bookingRepository.existsByItemIdAndBookerIdAndStatusAndEndBefore(
+                anyLong(), anyLong(), any(BookingStatus.class), any(LocalDateTime.class)))
+                .thenReturn(true);
+
+        itemService.getCommentPreview(1);
+        itemService.getCommentPreview(1);
+        verify(commentRepository, times(1)).findViewsByItemId(1L, PageRequest.of(0, 10));
+
+        itemService.addComment(comment);
+        itemService.getCommentPreview(1);
+        verify(commentRepository, times(2)).findViewsByItemId(1L, PageRequest.of(0, 10));
+    }
+
+    @Test
+    void getComments_shouldReturnCommentPage() {
+        List<CommentView> expected = List.of(commentView(3), commentView(2));
+        when(itemRepository.existsById(1L)).thenReturn(true);
+        when(commentRepository.findViewsByItemId(1L, PageRequest.of(1, 2))).thenReturn(expected);
+
+        assertThat(itemService.getComments(1, PageRequest.of(1, 2))).isEqualTo(expected);
+    }
+
+    @Test
+    void getComments_shouldThrowException_ifItemNotFound() {
+        when(itemRepository.existsById(1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> itemService.getComments(1, PageRequest.of(0, 10)))
+                .isInstanceOf(NotFoundException.class);
+        verify(commentRepository, never()).findViewsByItemId(anyLong(), any());
     }
 
     @Test
@@ -251,4 +353,8 @@ class ItemServiceImplTest {
         assertThat(itemService.getItemsByRequestId(1)).isEqualTo(expected);
         verify(itemRepository, times(1)).findAllByRequestId(1);
     }
-}
\ No newline at end of file
+
+    private static CommentView commentView(long id) {
+        return new CommentView(id, "Text " + id, "Author", LocalDateTime.of(2023, 1, 1, 10, 0).plusDays(id));
+    }
+}
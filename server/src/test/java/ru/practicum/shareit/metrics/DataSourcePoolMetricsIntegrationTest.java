@@ -0,0 +1,34 @@
+package ru.practicum.shareit.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.user.UserRepository;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.hikari.leak-detection-threshold=5000")
+@DirtiesContext
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class DataSourcePoolMetricsIntegrationTest {
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final UserRepository userRepository;
+
+    @Test
+    void proxiedPool_shouldKeepHikariSettingsAndPoolMetrics() throws SQLException {
+        userRepository.count();
+
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+        assertThat(pool.getLeakDetectionThreshold()).isEqualTo(5000);
+        assertThat(meterRegistry.get("hikaricp.connections.acquire").timer().count()).isPositive();
+        assertThat(meterRegistry.get("hikaricp.connections.pending").gauge()).isNotNull();
+    }
+}
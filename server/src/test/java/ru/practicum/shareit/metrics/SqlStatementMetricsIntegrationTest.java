@@ -0,0 +1,45 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.user.service.UserServiceImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class SqlStatementMetricsIntegrationTest {
+    private final MockMvc mockMvc;
+    private final MeterRegistry meterRegistry;
+
+    @Test
+    void request_shouldRecordSqlStatementsAndServiceTimer() throws Exception {
+        mockMvc.perform(get("/users"))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.get(SqlStatementMetricsInterceptor.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/users")
+                .summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(1);
+
+        Timer serviceTimer = meterRegistry.get("shareit.service")
+                .tag("class", UserServiceImpl.class.getName())
+                .tag("method", "getAllUsers")
+                .timer();
+        assertThat(serviceTimer.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,40 @@
+package ru.practicum.shareit.metrics;
+
+import org.assertj.core.api.AbstractAssert;
+
+/**
+ * Pins the number of SQL statements a piece of code may execute:
+ * <pre>
+ * try (SqlStatementCounter.Recording statements = counter.start()) {
+ *     mockMvc.perform(get("/items")...);
+ *     assertThatStatements(statements).hasAtMost(4).hasNoStatementRepeatedMoreThan(1);
+ * }
+ * </pre>
+ */
+public class SqlStatementsAssert extends AbstractAssert<SqlStatementsAssert, SqlStatementCounter.Recording> {
+    private SqlStatementsAssert(SqlStatementCounter.Recording actual) {
+        super(actual, SqlStatementsAssert.class);
+    }
+
+    public static SqlStatementsAssert assertThatStatements(SqlStatementCounter.Recording actual) {
+        return new SqlStatementsAssert(actual);
+    }
+
+    public SqlStatementsAssert hasAtMost(int expected) {
+        isNotNull();
+        if (actual.getCount() > expected) {
+            failWithMessage("Expected at most %d SQL statements but %d were executed, most repeated: %s",
+                    expected, actual.getCount(), actual.getMostRepeated());
+        }
+        return this;
+    }
+
+    public SqlStatementsAssert hasNoStatementRepeatedMoreThan(int expected) {
+        isNotNull();
+        if (actual.getMaxRepetitions() > expected) {
+            failWithMessage("Expected no SQL statement repeated more than %d times but %s",
+                    expected, actual.getMostRepeated());
+        }
+        return this;
+    }
+}
@@ -0,0 +1,144 @@
+package ru.practicum.shareit.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = {
+        "shareit.outbox.enabled=true",
+        "shareit.outbox.poll-interval=3600000",
+        "shareit.outbox.cleanup-interval=3600000",
+        "shareit.outbox.batch-size=2",
+        "shareit.outbox.retention=0s"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ChangeEventRelayIntegrationTest {
+    private final ChangeEventRelay relay;
+    private final ChangeEventRepository eventRepository;
+    private final InMemoryChangeEventSink sink;
+    private final ItemService itemService;
+    private final BookingService bookingService;
+    private final ItemRequestService itemRequestService;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    private User owner;
+    private User booker;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder().name("Owner").email("owner@email.com").build());
+        booker = userRepository.save(User.builder().name("Booker").email("booker@email.com").build());
+    }
+
+    @Test
+    void relay_shouldSendCommittedChangesAndMarkThemPublished() throws Exception {
+        ItemRequest request = itemRequestService.addRequest(ItemRequest.builder().description("Need a drill")
+                .requesterId(booker.getId()).created(LocalDateTime.now()).build());
+        Item item = itemService.addItem(Item.builder().name("Drill").description("Good drill").available(true)
+                .ownerId(owner.getId()).requestId(request.getId()).build());
+        itemService.updateItem(Item.builder().id(item.getId()).ownerId(owner.getId()).available(false).build());
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Booking booking = bookingService.addBooking(Booking.builder().start(start).end(start.plusDays(1))
+                .item(item).booker(booker).status(BookingStatus.WAITING).build());
+        bookingService.updateStatus(owner.getId(), booking.getId(), true);
+
+        relay.relay();
+
+        assertThat(sink.events).extracting(ChangeEvent::getEntity, ChangeEvent::getEntityId, ChangeEvent::getType)
+                .containsExactly(
+                        tuple(ChangeEventEntity.REQUEST, request.getId(), ChangeEventType.CREATED),
+                        tuple(ChangeEventEntity.ITEM, item.getId(), ChangeEventType.CREATED),
+                        tuple(ChangeEventEntity.ITEM, item.getId(), ChangeEventType.UPDATED),
+                        tuple(ChangeEventEntity.BOOKING, booking.getId(), ChangeEventType.CREATED),
+                        tuple(ChangeEventEntity.BOOKING, booking.getId(), ChangeEventType.UPDATED));
+        JsonNode updatedItem = objectMapper.readTree(sink.events.get(2).getPayload());
+        assertThat(updatedItem.get("available").asBoolean()).isFalse();
+        assertThat(updatedItem.get("requestId").asLong()).isEqualTo(request.getId());
+        assertThat(objectMapper.readTree(sink.events.get(4).getPayload()).get("status").asText())
+                .isEqualTo(BookingStatus.APPROVED.name());
+        assertThat(eventRepository.findAll()).allMatch(event -> event.getPublished() != null);
+    }
+
+    @Test
+    void relay_shouldSendEventsAgain_ifSinkFailed() {
+        sink.failures = 1;
+        itemService.addItem(Item.builder().name("Drill").description("Good drill").available(true)
+                .ownerId(owner.getId()).build());
+
+        relay.relay();
+
+        assertThat(sink.events).isEmpty();
+        assertThat(eventRepository.findAll()).singleElement()
+                .extracting(ChangeEvent::getPublished).isNull();
+
+        relay.relay();
+
+        assertThat(sink.events).hasSize(1);
+        assertThat(eventRepository.findAll()).singleElement()
+                .extracting(ChangeEvent::getPublished).isNotNull();
+    }
+
+    @Test
+    void cleanup_shouldDeletePublishedEventsOnly() throws Exception {
+        itemService.addItem(Item.builder().name("Drill").description("Good drill").available(true)
+                .ownerId(owner.getId()).build());
+        relay.relay();
+        Item unpublished = itemService.addItem(Item.builder().name("Saw").description("Sharp saw").available(true)
+                .ownerId(owner.getId()).build());
+        Thread.sleep(10);
+
+        relay.cleanup();
+
+        assertThat(eventRepository.findAll().stream().map(ChangeEvent::getEntityId).collect(Collectors.toList()))
+                .containsExactly(unpublished.getId());
+    }
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        @Primary
+        InMemoryChangeEventSink inMemoryChangeEventSink() {
+            return new InMemoryChangeEventSink();
+        }
+    }
+
+    static class InMemoryChangeEventSink implements ChangeEventSink {
+        private final List<ChangeEvent> events = new ArrayList<>();
+        private int failures;
+
+        @Override
+        public void send(List<ChangeEvent> batch) {
+            if (failures-- > 0) {
+                throw new IllegalStateException("Sink is down");
+            }
+            events.addAll(batch);
+        }
+    }
+}
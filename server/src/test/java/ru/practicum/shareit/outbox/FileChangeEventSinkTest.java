@@ -0,0 +1,48 @@
+package ru.practicum.shareit.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileChangeEventSinkTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void send_shouldAppendOneJsonLinePerEvent() throws Exception {
+        Path path = dir.resolve("events.jsonl");
+        FileChangeEventSink sink = new FileChangeEventSink(path, objectMapper);
+
+        sink.send(List.of(event(1, "{\"id\":10,\"name\":\"Drill\"}")));
+        sink.send(List.of(event(2, "{\"id\":10,\"name\":\"Saw\"}")));
+
+        List<String> lines = Files.readAllLines(path);
+        assertThat(lines).hasSize(2);
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertThat(second.get("id").asLong()).isEqualTo(2);
+        assertThat(second.get("entity").asText()).isEqualTo("ITEM");
+        assertThat(second.get("payload").get("name").asText()).isEqualTo("Saw");
+    }
+
+    private ChangeEvent event(long id, String payload) {
+        return ChangeEvent.builder()
+                .id(id)
+                .entity(ChangeEventEntity.ITEM)
+                .entityId(10)
+                .type(ChangeEventType.UPDATED)
+                .payload(payload)
+                .created(LocalDateTime.now())
+                .build();
+    }
+}
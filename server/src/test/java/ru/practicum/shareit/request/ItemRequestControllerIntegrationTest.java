@@ -6,22 +6,28 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.ItemMapper;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.feed.RequestFeedEntry;
+import ru.practicum.shareit.request.feed.RequestFeedItem;
+import ru.practicum.shareit.request.feed.RequestFeedService;
+import ru.practicum.shareit.request.matching.RequestCandidate;
+import ru.practicum.shareit.request.matching.RequestMatchingService;
 import ru.practicum.shareit.request.service.ItemRequestService;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -34,7 +40,6 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @Import({ItemRequestMapper.class, ItemMapper.class})
 class ItemRequestControllerIntegrationTest {
     private static final String USER_ID = "X-Sharer-User-Id";
-    private static Pageable DEFAULT_PAGEABLE = PageRequest.of(0, 10, Sort.by("created").descending());
 
     @MockBean
     private ItemRequestService itemRequestService;
@@ -42,6 +47,12 @@ class ItemRequestControllerIntegrationTest {
     @MockBean
     private ItemService itemService;
 
+    @MockBean
+    private RequestMatchingService requestMatchingService;
+
+    @MockBean
+    private RequestFeedService requestFeedService;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -51,11 +62,10 @@ class ItemRequestControllerIntegrationTest {
     @Test
     void getAllShouldReturnRequests() throws Exception {
         long userId = 11;
-        ItemRequest itemRequest1 = ItemRequest.builder().id(1).build();
-        ItemRequest itemRequest2 = ItemRequest.builder().id(2).build();
-        when(itemService.getItemsByRequestId(userId)).thenReturn(Collections.emptyList());
-        when(itemRequestService.getAllRequests(userId, DEFAULT_PAGEABLE))
-                .thenReturn(List.of(itemRequest1, itemRequest2));
+        RequestFeedEntry entry1 = RequestFeedEntry.builder().requestId(1)
+                .items(List.of(new RequestFeedItem(5, "Drill", "Cordless drill", true))).build();
+        RequestFeedEntry entry2 = RequestFeedEntry.builder().requestId(2).build();
+        when(requestFeedService.getFeed(userId, 0, 10)).thenReturn(List.of(entry1, entry2));
 
         mockMvc.perform(get("/requests/all")
                         .header(USER_ID, userId)
@@ -63,11 +73,30 @@ class ItemRequestControllerIntegrationTest {
                         .param("size", "10"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.[0].id").value(itemRequest1.getId()))
-                .andExpect(jsonPath("$.[1].id").value(itemRequest2.getId()));
+                .andExpect(jsonPath("$.[0].id").value(1))
+                .andExpect(jsonPath("$.[0].items[0].id").value(5))
+                .andExpect(jsonPath("$.[0].items[0].requestId").value(1))
+                .andExpect(jsonPath("$.[1].id").value(2))
+                .andExpect(jsonPath("$.[1].items").isEmpty());
+
+        verify(requestFeedService, times(1)).getFeed(userId, 0, 10);
+        verify(itemService, never()).getItemsByRequestId(anyLong());
+    }
 
-        verify(itemRequestService, times(1)).getAllRequests(userId, DEFAULT_PAGEABLE);
-        verify(itemService, times(1)).getItemsByRequestId(1);
+    @Test
+    void getAll_shouldReturnPageBeforeRequest_ifBeforeIsSet() throws Exception {
+        long userId = 11;
+        when(requestFeedService.getFeedBefore(userId, 7, 10))
+                .thenReturn(List.of(RequestFeedEntry.builder().requestId(3).build()));
+
+        mockMvc.perform(get("/requests/all")
+                        .header(USER_ID, userId)
+                        .param("before", "7")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].id").value(3));
+
+        verify(requestFeedService, never()).getFeed(anyLong(), anyInt(), anyInt());
     }
 
     @Test
@@ -89,6 +118,26 @@ class ItemRequestControllerIntegrationTest {
         verify(itemService, times(2)).getItemsByRequestId(anyLong());
     }
 
+    @Test
+    void getAllByRequester_shouldReturnCandidates_fetchedForAllRequestsAtOnce() throws Exception {
+        long userId = 11;
+        ItemRequest itemRequest1 = ItemRequest.builder().id(1).requesterId(userId).build();
+        ItemRequest itemRequest2 = ItemRequest.builder().id(2).requesterId(userId).build();
+        when(itemRequestService.getAllByRequesterId(userId)).thenReturn(List.of(itemRequest1, itemRequest2));
+        when(requestMatchingService.getCandidates(List.of(1L, 2L)))
+                .thenReturn(Map.of(2L, List.of(new RequestCandidate(2, 5, "Drill", "Cordless drill", true, 1.0))));
+
+        mockMvc.perform(get("/requests")
+                        .header(USER_ID, userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].candidates").isEmpty())
+                .andExpect(jsonPath("$.[1].candidates[0].id").value(5))
+                .andExpect(jsonPath("$.[1].candidates[0].name").value("Drill"))
+                .andExpect(jsonPath("$.[1].candidates[0].score").value(1.0));
+
+        verify(requestMatchingService, times(1)).getCandidates(anyCollection());
+    }
+
     @Test
     void getAllByRequester_shouldReturnNotFound_ifRequesterNotFound() throws Exception {
         when(itemRequestService.getAllByRequesterId(1)).thenThrow(new NotFoundException());
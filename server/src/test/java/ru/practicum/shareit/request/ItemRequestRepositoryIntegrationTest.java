@@ -5,7 +5,6 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
@@ -59,16 +58,6 @@ class ItemRequestRepositoryIntegrationTest {
                 .build());
     }
 
-    @Test
-    void findAllByRequesterIdNot() {
-        List<ItemRequest> expected = List.of(
-                itemRequestRepository.findById(2L).get(),
-                itemRequestRepository.findById(4L).get());
-        List<ItemRequest> actual = itemRequestRepository.findAllByRequesterIdNot(1, Pageable.ofSize(5));
-
-        assertThat(actual).isEqualTo(expected);
-    }
-
     @Test
     void findAllByRequesterIdOrderByCreatedDesc() {
         List<ItemRequest> expectedForUser1 = List.of(
@@ -0,0 +1,130 @@
+package ru.practicum.shareit.request.feed;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class RequestFeedServiceImplIntegrationTest {
+    private static final LocalDateTime CREATED = LocalDateTime.of(2023, 3, 1, 12, 0);
+
+    private final RequestFeedService feedService;
+    private final RequestFeedRepository feedRepository;
+    private final RequestFeedBackfill backfill;
+    private final ItemRequestService itemRequestService;
+    private final ItemRequestRepository itemRequestRepository;
+    private final ItemService itemService;
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+
+    private User requester;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        requester = userRepository.save(User.builder().name("Requester").email("requester@email.com").build());
+        owner = userRepository.save(User.builder().name("Owner").email("owner@email.com").build());
+    }
+
+    @Test
+    void addItem_shouldAddItemToEntryOfItsRequest_andUpdateItemShouldReplaceIt() {
+        ItemRequest request = addRequest(requester, CREATED);
+        Item first = addItem(request.getId(), "Drill");
+        Item second = addItem(request.getId(), "Hammer drill");
+        addItem(null, "Tent");
+        itemService.updateItem(Item.builder().id(first.getId()).ownerId(owner.getId()).available(false).build());
+
+        assertThat(feedRepository.findById(request.getId()).orElseThrow().getItems()).containsExactly(
+                new RequestFeedItem(first.getId(), "Drill", "Drill", false),
+                new RequestFeedItem(second.getId(), "Hammer drill", "Hammer drill", true));
+    }
+
+    @Test
+    void getFeed_shouldReturnRequestsOfOtherUsers_newestFirst() {
+        ItemRequest oldest = addRequest(requester, CREATED);
+        ItemRequest sameTime = addRequest(requester, CREATED);
+        addRequest(owner, CREATED.plusDays(1));
+        ItemRequest newest = addRequest(requester, CREATED.plusDays(2));
+
+        assertThat(requestIds(feedService.getFeed(owner.getId(), 0, 10)))
+                .containsExactly(newest.getId(), sameTime.getId(), oldest.getId());
+        assertThat(requestIds(feedService.getFeed(owner.getId(), 2, 2))).containsExactly(oldest.getId());
+    }
+
+    @Test
+    void getFeedBefore_shouldContinueAfterTheGivenRequest() {
+        ItemRequest oldest = addRequest(requester, CREATED);
+        ItemRequest sameTime = addRequest(requester, CREATED);
+        ItemRequest own = addRequest(owner, CREATED.plusDays(1));
+        ItemRequest newest = addRequest(requester, CREATED.plusDays(2));
+
+        assertThat(requestIds(feedService.getFeedBefore(owner.getId(), newest.getId(), 1)))
+                .containsExactly(sameTime.getId());
+        assertThat(requestIds(feedService.getFeedBefore(owner.getId(), own.getId(), 10)))
+                .containsExactly(sameTime.getId(), oldest.getId());
+        assertThat(feedService.getFeedBefore(owner.getId(), oldest.getId(), 10)).isEmpty();
+    }
+
+    @Test
+    void backfill_shouldCreateEntriesOfRequestsAddedOutsideOfTheServer() {
+        ItemRequest request = itemRequestRepository.save(ItemRequest.builder().description("Drill")
+                .requesterId(requester.getId()).created(CREATED).build());
+        Item item = itemRepository.save(Item.builder().name("Drill").description("Drill").available(true)
+                .ownerId(owner.getId()).requestId(request.getId()).build());
+
+        backfill.backfill();
+
+        RequestFeedEntry entry = feedRepository.findById(request.getId()).orElseThrow();
+        assertThat(entry.getRequesterId()).isEqualTo(requester.getId());
+        assertThat(entry.getItems()).containsExactly(RequestFeedItem.of(item));
+    }
+
+    @Test
+    void backfill_shouldOnlyScanRequestsAddedSinceTheRunBefore() {
+        ItemRequest old = itemRequestRepository.save(ItemRequest.builder().description("Drill")
+                .requesterId(requester.getId()).created(CREATED).build());
+        backfill.backfill();
+        backfill.backfill();
+        feedRepository.deleteById(old.getId());
+        ItemRequest recent = itemRequestRepository.save(ItemRequest.builder().description("Saw")
+                .requesterId(requester.getId()).created(CREATED).build());
+
+        backfill.backfill();
+
+        assertThat(feedRepository.findById(recent.getId())).isPresent();
+        assertThat(feedRepository.findById(old.getId())).isEmpty();
+    }
+
+    private ItemRequest addRequest(User user, LocalDateTime created) {
+        return itemRequestService.addRequest(ItemRequest.builder().description("Request")
+                .requesterId(user.getId()).created(created).build());
+    }
+
+    private Item addItem(Long requestId, String name) {
+        return itemService.addItem(Item.builder().name(name).description(name).available(true)
+                .ownerId(owner.getId()).requestId(requestId).build());
+    }
+
+    private static List<Long> requestIds(List<RequestFeedEntry> entries) {
+        return entries.stream().map(RequestFeedEntry::getRequestId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,64 @@
+package ru.practicum.shareit.request.matching;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.request.ItemRequest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestMatchIndexTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 3, 1, 12, 0);
+
+    private RequestMatchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RequestMatchIndex();
+        index.add(request(1, 10, "Нужна аккумуляторная дрель", 3));
+        index.add(request(2, 20, "Дрель с ударом", 2));
+        index.add(request(3, 30, "Палатка на четверых", 1));
+    }
+
+    @Test
+    void match_shouldScoreRequestsByShareOfTheirWordsFound() {
+        assertThat(index.match("Дрель ударная, аккумуляторная", 99, null, 0.5, 5)).containsExactly(
+                new RequestMatchIndex.Match(1, 1.0),
+                new RequestMatchIndex.Match(2, 0.5));
+    }
+
+    @Test
+    void match_shouldSkipRequestsBelowMinScore_andKeepBestUpToLimit() {
+        assertThat(index.match("дрель", 99, null, 0.6, 5)).isEmpty();
+        assertThat(index.match("дрель аккумуляторная удар", 99, null, 0.5, 1))
+                .containsExactly(new RequestMatchIndex.Match(1, 1.0));
+    }
+
+    @Test
+    void match_shouldSkipOwnRequestsAndAnsweredRequest() {
+        assertThat(index.match("дрель аккумуляторная удар", 10, 2L, 0.1, 5)).isEmpty();
+    }
+
+    @Test
+    void removeCreatedBefore_shouldDropExpiredRequests() {
+        assertThat(index.removeCreatedBefore(NOW.minusDays(2))).isEqualTo(1);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.match("аккумуляторная дрель", 99, null, 0.5, 5))
+                .containsExactly(new RequestMatchIndex.Match(2, 0.5));
+    }
+
+    @Test
+    void add_shouldIgnoreRequestsAlreadyIndexed() {
+        index.add(request(1, 10, "Палатка", 0));
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.match("палатка", 99, null, 0.5, 5)).containsExactly(new RequestMatchIndex.Match(3, 0.5));
+    }
+
+    private static ItemRequest request(long id, long requesterId, String description, int daysAgo) {
+        return ItemRequest.builder().id(id).requesterId(requesterId).description(description)
+                .created(NOW.minusDays(daysAgo)).build();
+    }
+}
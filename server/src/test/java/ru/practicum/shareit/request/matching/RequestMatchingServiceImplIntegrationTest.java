@@ -0,0 +1,90 @@
+package ru.practicum.shareit.request.matching;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class RequestMatchingServiceImplIntegrationTest {
+    private final RequestMatchingServiceImpl requestMatchingService;
+    private final ItemRequestService itemRequestService;
+    private final ItemRequestRepository itemRequestRepository;
+    private final ItemService itemService;
+    private final UserRepository userRepository;
+
+    private User requester;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        requester = userRepository.save(User.builder().name("Requester").email("requester@email.com").build());
+        owner = userRepository.save(User.builder().name("Owner").email("owner@email.com").build());
+    }
+
+    @Test
+    void addItem_shouldLinkItemToMatchingRequests() {
+        ItemRequest drill = addRequest(requester, "Нужна аккумуляторная дрель");
+        ItemRequest tent = addRequest(requester, "Палатка на четверых");
+        Item item = addItem(owner, "Дрель", "Аккумуляторная дрель с двумя батареями", true, null);
+        addItem(owner, "Молоток", "Слесарный", true, null);
+
+        assertThat(requestMatchingService.getCandidates(List.of(drill.getId(), tent.getId())))
+                .containsOnlyKeys(drill.getId())
+                .extractingByKey(drill.getId())
+                .isEqualTo(List.of(new RequestCandidate(drill.getId(), item.getId(), item.getName(),
+                        item.getDescription(), true, 1.0)));
+    }
+
+    @Test
+    void addItem_shouldNotLinkOwnRequestsUnavailableItemsOrTheAnsweredRequest() {
+        ItemRequest own = addRequest(owner, "Дрель");
+        ItemRequest answered = addRequest(requester, "Дрель");
+        addItem(owner, "Дрель", "Ударная", true, answered.getId());
+        addItem(requester, "Дрель", "Сломана", false, null);
+
+        assertThat(requestMatchingService.getCandidates(List.of(own.getId(), answered.getId()))).isEmpty();
+    }
+
+    @Test
+    void refresh_shouldIndexRequestsAddedElsewhere_andDropExpiredOnes() {
+        ItemRequest recent = itemRequestRepository.save(ItemRequest.builder().description("Палатка")
+                .requesterId(requester.getId()).created(LocalDateTime.now()).build());
+        ItemRequest expired = itemRequestRepository.save(ItemRequest.builder().description("Палатка")
+                .requesterId(requester.getId()).created(LocalDateTime.now().minusDays(31)).build());
+        addItem(owner, "Палатка", "Двухместная", true, null);
+        assertThat(requestMatchingService.getCandidates(List.of(recent.getId()))).isEmpty();
+
+        requestMatchingService.refresh();
+        addItem(owner, "Палатка", "Четырёхместная", true, null);
+
+        assertThat(requestMatchingService.getCandidates(List.of(recent.getId(), expired.getId())))
+                .containsOnlyKeys(recent.getId());
+    }
+
+    private ItemRequest addRequest(User user, String description) {
+        return itemRequestService.addRequest(ItemRequest.builder().description(description)
+                .requesterId(user.getId()).created(LocalDateTime.now()).build());
+    }
+
+    private Item addItem(User user, String name, String description, boolean available, Long requestId) {
+        return itemService.addItem(Item.builder().name(name).description(description).available(available)
+                .ownerId(user.getId()).requestId(requestId).build());
+    }
+}
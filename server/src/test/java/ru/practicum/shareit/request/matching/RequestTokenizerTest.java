@@ -0,0 +1,24 @@
+package ru.practicum.shareit.request.matching;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestTokenizerTest {
+    @Test
+    void tokenize_shouldDropShortAndCommonWords() {
+        assertThat(RequestTokenizer.tokenize("Нужна дрель для бетона, 18 V!")).containsExactly("бетон", "дрел");
+    }
+
+    @Test
+    void tokenize_shouldReduceWordFormsToTheSameStem() {
+        assertThat(RequestTokenizer.tokenize("Дрели и перфораторы")).isEqualTo(RequestTokenizer.tokenize("дрель перфоратор"));
+        assertThat(RequestTokenizer.tokenize("Need cordless drills")).isEqualTo(RequestTokenizer.tokenize("Cordless DRILL"));
+    }
+
+    @Test
+    void tokenize_shouldReturnEmptySet_ifNoText() {
+        assertThat(RequestTokenizer.tokenize(null)).isEmpty();
+        assertThat(RequestTokenizer.tokenize("... !")).isEmpty();
+    }
+}
@@ -5,14 +5,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.outbox.ChangeEventPublisher;
+import ru.practicum.shareit.outbox.ChangeEventType;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.request.feed.RequestFeedService;
+import ru.practicum.shareit.request.matching.RequestMatchingService;
 import ru.practicum.shareit.user.UserRepository;
 
-import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,25 +32,18 @@ class ItemRequestServiceImplTest {
     @Mock
     private ItemRequestRepository itemRequestRepository;
 
+    @Mock
+    private ChangeEventPublisher changeEventPublisher;
+
+    @Mock
+    private RequestMatchingService requestMatchingService;
+
+    @Mock
+    private RequestFeedService requestFeedService;
+
     @InjectMocks
     private ItemRequestServiceImpl itemRequestService;
 
-    @Test
-    void getAllRequests_shouldReturnRequests() {
-        int userId = 1;
-        int from = 5;
-        int size = 2;
-        int page = from / size;
-        ItemRequest request1 = ItemRequest.builder().id(1).build();
-        ItemRequest request2 = ItemRequest.builder().id(2).build();
-        List<ItemRequest> requests = List.of(request1, request2);
-        when(itemRequestRepository.findAllByRequesterIdNot(
-                userId, PageRequest.of(page, size, Sort.by("created").descending()))).thenReturn(requests);
-
-        assertThat(itemRequestService.getAllRequests(userId, PageRequest.of(page, size, Sort.by("created").descending())))
-                .isEqualTo(requests);
-    }
-
     @Test
     void getAllByRequesterId_shouldCallRepository() {
         when(userRepository.existsById(1L)).thenReturn(true);
@@ -94,10 +88,14 @@ class ItemRequestServiceImplTest {
     void addRequest_shouldSendRequestToRepository() {
         ItemRequest request = ItemRequest.builder().id(1).build();
         when(userRepository.existsById(request.getRequesterId())).thenReturn(true);
+        when(itemRequestRepository.save(request)).thenReturn(request);
 
         itemRequestService.addRequest(request);
 
         verify(itemRequestRepository, times(1)).save(request);
+        verify(requestFeedService, times(1)).addEntry(request);
+        verify(requestMatchingService, times(1)).indexRequest(request);
+        verify(changeEventPublisher, times(1)).publish(request, ChangeEventType.CREATED);
     }
 
     @Test
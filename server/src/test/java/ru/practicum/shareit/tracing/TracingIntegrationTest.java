@@ -0,0 +1,79 @@
+package ru.practicum.shareit.tracing;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class TracingIntegrationTest {
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PARENT_SPAN_ID = "00f067aa0ba902b7";
+
+    private final MockMvc mockMvc;
+    private final UserRepository userRepository;
+    private final InMemorySpanExporter spanExporter;
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+
+        @Bean
+        SpanProcessor inMemorySpanProcessor(InMemorySpanExporter inMemorySpanExporter) {
+            return SimpleSpanProcessor.create(inMemorySpanExporter);
+        }
+    }
+
+    @Test
+    void request_shouldContinueTraceWithServiceAndJdbcSpans() throws Exception {
+        User user = userRepository.save(User.builder().name("Ggg").email("ggg@ggg.gg").build());
+        spanExporter.reset();
+
+        mockMvc.perform(get("/users/{userId}", user.getId())
+                        .header("traceparent", "00-" + TRACE_ID + "-" + PARENT_SPAN_ID + "-01"))
+                .andExpect(status().isOk());
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        assertThat(spans).extracting(SpanData::getTraceId).containsOnly(TRACE_ID);
+        Map<String, SpanData> byName = spans.stream()
+                .collect(Collectors.toMap(SpanData::getName, Function.identity(), (a, b) -> a));
+
+        SpanData server = byName.get("GET /users/{userId}");
+        assertThat(server.getKind()).isEqualTo(SpanKind.SERVER);
+        assertThat(server.getParentSpanId()).isEqualTo(PARENT_SPAN_ID);
+
+        SpanData service = byName.get("UserServiceImpl.getUserById");
+        assertThat(service.getParentSpanId()).isEqualTo(server.getSpanId());
+
+        SpanData select = byName.get("SELECT");
+        assertThat(select.getKind()).isEqualTo(SpanKind.CLIENT);
+        assertThat(select.getParentSpanId()).isEqualTo(service.getSpanId());
+    }
+}
@@ -1,16 +1,20 @@
 package ru.practicum.shareit.user;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.WireFormatConfig;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -21,10 +25,12 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = UserController.class)
+@Import(WireFormatConfig.class)
 class UserControllerIntegrationTest {
     @MockBean
     private UserService userService;
@@ -89,6 +95,30 @@ class UserControllerIntegrationTest {
         verify(userService, times(1)).addUser(any(User.class));
     }
 
+    @Test
+    void add_shouldReadAndWriteSmile_ifRequested() throws Exception {
+        MediaType smile = new MediaType("application", "x-jackson-smile");
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory()).findAndRegisterModules();
+        UserDto userDto = UserDto.builder().id(1).name("Ggg").email("ggg@ggg.gg").build();
+        User user = User.builder().id(1).name("Ggg").email("ggg@ggg.gg").build();
+
+        when(userService.addUser(user)).thenReturn(user);
+        when(userMapper.toUser(userDto)).thenReturn(user);
+        when(userMapper.toDto(user)).thenReturn(userDto);
+
+        byte[] response = mockMvc.perform(post("/users")
+                        .contentType(smile)
+                        .content(smileMapper.writeValueAsBytes(userDto))
+                        .accept(smile))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(smile))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        assertThat(smileMapper.readValue(response, UserDto.class)).isEqualTo(userDto);
+    }
+
     @Test
     void update_shouldReturnOk_ifUserFound() throws Exception {
         UserDto userDtoRequest = UserDto.builder().id(1).name("PPP").build();